@@ -19,6 +19,7 @@ repositories {
     maven { url = uri("https://jitpack.io") }
     maven { url = uri("https://repo.maven.apache.org/maven2/") }
     maven { url = uri("https://repo.gravemc.net/releases/") } // ModernDisguise
+    maven { url = uri("https://repo.extendedclip.com/releases/") } // PlaceholderAPI
     maven {
         name = "GitHubPackages"
         url = uri("https://maven.pkg.github.com/Lyttle-Development/LyttleUtils")
@@ -31,8 +32,15 @@ repositories {
 
 dependencies {
     compileOnly("io.papermc.paper:paper-api:" + (property("paperVersion") as String) + "-R0.1-SNAPSHOT")
+    compileOnly("me.clip:placeholderapi:2.11.6")
     implementation("dev.iiahmed:ModernDisguise:4.4")
     implementation("com.lyttledev:lyttleutils:1.2.1")
+
+    testImplementation("io.papermc.paper:paper-api:" + (property("paperVersion") as String) + "-R0.1-SNAPSHOT")
+    testImplementation(platform("org.junit:junit-bom:5.11.3"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testImplementation("org.mockito:mockito-core:5.14.2")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
 group = "com.lyttledev"
@@ -62,6 +70,42 @@ tasks.named("build") {
     dependsOn("shadowJar", "copyContents")
 }
 
+// --- Tests ---
+tasks.named<Test>("test") {
+    useJUnitPlatform {
+        excludeTags("load", "benchmark")
+    }
+}
+
+// Load generator for event-sized disguise traffic: ./gradlew loadTest [-Ploadtest.players=300 -Ploadtest.seconds=15]
+val loadTest by tasks.registering(Test::class) {
+    description = "Simulates hundreds of concurrent disguises and reports throughput, tick time and latency."
+    group = "verification"
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    useJUnitPlatform {
+        includeTags("load")
+    }
+    testLogging.showStandardStreams = true
+    outputs.upToDateWhen { false }
+    listOf("players", "seconds", "seed").forEach { key ->
+        providers.gradleProperty("loadtest.$key").orNull?.let { systemProperty("loadtest.$key", it) }
+    }
+}
+
+// Micro-benchmarks for hot command paths: ./gradlew benchmark
+val benchmark by tasks.registering(Test::class) {
+    description = "Runs the micro-benchmarks and prints their timings."
+    group = "verification"
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    testLogging.showStandardStreams = true
+    outputs.upToDateWhen { false }
+}
+
 // --- Encoding setup for Java and Javadoc ---
 tasks.withType<JavaCompile> {
     options.encoding = "UTF-8"
@@ -1,8 +1,14 @@
 package com.lyttledev.lyttledisguise;
 
+import com.lyttledev.lyttledisguise.audit.AuditLog;
 import com.lyttledev.lyttledisguise.commands.LyttleDisguiseCommand;
 import com.lyttledev.lyttledisguise.commands.disquise.DisguiseCommand;
+import com.lyttledev.lyttledisguise.commands.disquise.DisguiseIndex;
+import com.lyttledev.lyttledisguise.commands.disquise.DisguiseMetrics;
+import com.lyttledev.lyttledisguise.placeholders.DisguisePlaceholders;
 import com.lyttledev.lyttledisguise.types.Configs;
+import com.lyttledev.lyttledisguise.types.MessageTemplates;
+import com.lyttledev.lyttledisguise.types.Settings;
 import com.lyttledev.lyttleutils.utils.communication.Console;
 import com.lyttledev.lyttleutils.utils.communication.Message;
 import com.lyttledev.lyttleutils.utils.storage.GlobalConfig;
@@ -11,28 +17,83 @@ import dev.iiahmed.disguise.DisguiseProvider;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 public final class LyttleDisguise extends JavaPlugin {
     public Configs config;
+    public volatile Settings settings;
     public Console console;
     public Message message;
+    public MessageTemplates templates;
+    public DisguiseMetrics metrics;
+    public AuditLog audit;
+    public DisguiseIndex disguises;
     public GlobalConfig global;
     private DisguiseProvider disguiseProvider;
+    private DisguiseCommand disguiseCommand;
 
     @Override
     public void onEnable() {
+        final long start = System.nanoTime();
+        long phase = start;
+        final StringBuilder timings = new StringBuilder();
+
         saveDefaultConfig();
+        phase = logPhase(timings, "defaults", phase);
+
         this.config = new Configs(this);
         this.global = new GlobalConfig(this);
-
-        migrateConfig();
+        migrateConfig(config);
+        this.settings = Settings.from(config);
+        phase = logPhase(timings, "configs", phase);
 
         this.console = new Console(this);
         this.message = new Message(this, config.messages, global);
-
+        this.templates = new MessageTemplates(config);
+        this.metrics = new DisguiseMetrics();
+        this.audit = new AuditLog(this);
+        this.disguises = new DisguiseIndex(this);
         new LyttleDisguiseCommand(this);
-        initializeDisguiseAPI();
+        phase = logPhase(timings, "commands", phase);
+
+        // Soft dependency: only touch PlaceholderAPI classes when it is installed.
+        if (getServer().getPluginManager().isPluginEnabled("PlaceholderAPI")) {
+            new DisguisePlaceholders(this).register();
+            logPhase(timings, "placeholders", phase);
+        }
+
+        getLogger().info("Enabled in " + millis(start) + "ms (" + timings + "), disguise provider deferred to the first tick.");
+
+        // Players cannot join before the first tick, so the provider (and /disguise) is wired up then.
+        getServer().getScheduler().runTask(this, () -> {
+            final long deferred = System.nanoTime();
+            initializeDisguiseAPI();
+            getLogger().info("Disguise provider ready in " + millis(deferred) + "ms.");
+        });
+    }
+
+    @Override
+    public void onDisable() {
+        if (audit != null) audit.close();
+        if (disguiseCommand != null) disguiseCommand.close();
+    }
+
+    private static long logPhase(StringBuilder timings, String name, long since) {
+        if (!timings.isEmpty()) timings.append(", ");
+        timings.append(name).append(' ').append(millis(since)).append("ms");
+        return System.nanoTime();
+    }
+
+    private static long millis(long since) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - since);
     }
 
     private void initializeDisguiseAPI() {
@@ -43,11 +104,32 @@ public final class LyttleDisguise extends JavaPlugin {
         disguiseProvider.setNameLength(16);
         disguiseProvider.setNamePattern(Pattern.compile("^[a-zA-Z0-9_]{1,16}$"));
 
-        final DisguiseCommand disguiseCommand = new DisguiseCommand(this, disguiseProvider);
+        disguiseCommand = new DisguiseCommand(this, disguiseProvider);
         getCommand("disguise").setExecutor(disguiseCommand);
         getCommand("disguise").setTabCompleter(disguiseCommand);
     }
 
+    /**
+     * Loads, migrates and parses config.yml and messages.yml off the main thread into fresh objects,
+     * then swaps them in on the main thread. Nothing that is in use is mutated.
+     */
+    public void reloadConfigs(Runnable whenDone) {
+        getServer().getScheduler().runTaskAsynchronously(this, () -> {
+            final Configs fresh = new Configs(this);
+            migrateConfig(fresh);
+            final Settings freshSettings = Settings.from(fresh);
+            final MessageTemplates freshTemplates = new MessageTemplates(fresh);
+
+            getServer().getScheduler().runTask(this, () -> {
+                this.config = fresh;
+                this.settings = freshSettings;
+                this.message = new Message(this, fresh.messages, global);
+                this.templates = freshTemplates;
+                whenDone.run();
+            });
+        });
+    }
+
     @Override
     public void saveDefaultConfig() {
         String configPath = "config.yml";
@@ -60,13 +142,56 @@ public final class LyttleDisguise extends JavaPlugin {
 
         String defaultPath = "#defaults/";
         String defaultGeneralPath =  defaultPath + configPath;
-        saveResource(defaultGeneralPath, true);
-
         String defaultMessagesPath =  defaultPath + messagesPath;
+
+        // Only rewrite the defaults when the bundled files changed. The version string is not enough:
+        // builds of the same version can ship different defaults, and migrations copy new keys from them.
+        File hashFile = new File(getDataFolder(), defaultPath + ".hash");
+        String hash = resourceHash(defaultGeneralPath, defaultMessagesPath);
+        if (hash != null
+                && isCurrentDefaults(hashFile, hash)
+                && new File(getDataFolder(), defaultGeneralPath).exists()
+                && new File(getDataFolder(), defaultMessagesPath).exists()) {
+            return;
+        }
+
+        saveResource(defaultGeneralPath, true);
         saveResource(defaultMessagesPath, true);
+        if (hash == null) return;
+
+        try {
+            Files.writeString(hashFile.toPath(), hash, StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            getLogger().warning("Could not record the defaults hash: " + ex.getMessage());
+        }
+    }
+
+    private static boolean isCurrentDefaults(File hashFile, String hash) {
+        if (!hashFile.exists()) return false;
+        try {
+            return hash.equals(Files.readString(hashFile.toPath(), StandardCharsets.UTF_8).trim());
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    // SHA-256 over the bundled resources, or null when one cannot be read.
+    private String resourceHash(String... paths) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String path : paths) {
+                try (InputStream in = getResource(path)) {
+                    if (in == null) return null;
+                    digest.update(in.readAllBytes());
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException ex) {
+            return null;
+        }
     }
 
-    private void migrateConfig() {
+    private void migrateConfig(Configs config) {
         if (!config.general.contains("config_version")) {
             config.general.set("config_version", 0);
         }
@@ -81,7 +206,7 @@ public final class LyttleDisguise extends JavaPlugin {
                 config.general.set("config_version", 1);
 
                 // Recheck if the config is fully migrated.
-                migrateConfig();
+                migrateConfig(config);
                 break;
             case "1":
             case "2": // Double update to fix skipped version.
@@ -92,7 +217,7 @@ public final class LyttleDisguise extends JavaPlugin {
                 config.general.set("config_version", 3);
 
                 // Recheck if the config is fully migrated.
-                migrateConfig();
+                migrateConfig(config);
                 break;
             case "3":
                 // Migrate new entity disguise messages.
@@ -106,7 +231,7 @@ public final class LyttleDisguise extends JavaPlugin {
                 config.general.set("config_version", 4);
 
                 // Recheck if the config is fully migrated.
-                migrateConfig();
+                migrateConfig(config);
                 break;
             case "4":
                 // Migrate new feedback messages for initiator when targeting others.
@@ -123,7 +248,131 @@ public final class LyttleDisguise extends JavaPlugin {
                 config.general.set("config_version", 5);
 
                 // Recheck if the config is fully migrated.
-                migrateConfig();
+                migrateConfig(config);
+                break;
+            case "5":
+                // Migrate feedback verbosity.
+                config.general.set("feedback_verbosity", config.defaultGeneral.get("feedback_verbosity"));
+                config.messages.set("disguise_name_retry_summary", config.defaultMessages.get("disguise_name_retry_summary"));
+
+                // Update config version.
+                config.general.set("config_version", 6);
+
+                // Recheck if the config is fully migrated.
+                migrateConfig(config);
+                break;
+            case "6":
+                // Migrate configurable skin provider URLs.
+                config.general.set("skin_provider_ashcon_url", config.defaultGeneral.get("skin_provider_ashcon_url"));
+                config.general.set("skin_provider_mojang_url", config.defaultGeneral.get("skin_provider_mojang_url"));
+                config.general.set("skin_provider_playerdb_url", config.defaultGeneral.get("skin_provider_playerdb_url"));
+                config.general.set("skin_provider_sessionserver_url", config.defaultGeneral.get("skin_provider_sessionserver_url"));
+
+                // Update config version.
+                config.general.set("config_version", 7);
+
+                // Recheck if the config is fully migrated.
+                migrateConfig(config);
+                break;
+            case "7":
+                // Migrate HTTP transport settings.
+                config.general.set("http_version", config.defaultGeneral.get("http_version"));
+                config.general.set("http_connect_timeout_ms", config.defaultGeneral.get("http_connect_timeout_ms"));
+                config.general.set("http_timeout_ashcon_ms", config.defaultGeneral.get("http_timeout_ashcon_ms"));
+                config.general.set("http_timeout_mojang_ms", config.defaultGeneral.get("http_timeout_mojang_ms"));
+                config.general.set("http_timeout_playerdb_ms", config.defaultGeneral.get("http_timeout_playerdb_ms"));
+                config.general.set("http_timeout_sessionserver_ms", config.defaultGeneral.get("http_timeout_sessionserver_ms"));
+                config.general.set("skin_resolve_deadline_ms", config.defaultGeneral.get("skin_resolve_deadline_ms"));
+                config.general.set("http_gzip", config.defaultGeneral.get("http_gzip"));
+                config.general.set("http_proxy", config.defaultGeneral.get("http_proxy"));
+
+                // Update config version.
+                config.general.set("config_version", 8);
+
+                // Recheck if the config is fully migrated.
+                migrateConfig(config);
+                break;
+            case "8":
+                // Migrate the skin negative cache TTL.
+                config.general.set("skin_negative_cache_seconds", config.defaultGeneral.get("skin_negative_cache_seconds"));
+
+                // Update config version.
+                config.general.set("config_version", 9);
+
+                // Recheck if the config is fully migrated.
+                migrateConfig(config);
+                break;
+            case "9":
+                // Migrate skin cache settings.
+                config.general.set("skin_cache_ttl_seconds", config.defaultGeneral.get("skin_cache_ttl_seconds"));
+                config.general.set("skin_cache_shared_directory", config.defaultGeneral.get("skin_cache_shared_directory"));
+
+                // Update config version.
+                config.general.set("config_version", 10);
+
+                // Recheck if the config is fully migrated.
+                migrateConfig(config);
+                break;
+            case "10":
+                // Migrate stale-while-revalidate and pre-warm settings.
+                config.general.set("skin_cache_stale_seconds", config.defaultGeneral.get("skin_cache_stale_seconds"));
+                config.general.set("skin_prewarm_names", config.defaultGeneral.get("skin_prewarm_names"));
+
+                // Update config version.
+                config.general.set("config_version", 11);
+
+                // Recheck if the config is fully migrated.
+                migrateConfig(config);
+                break;
+            case "11":
+                // Migrate batch entity disguise messages.
+                config.messages.set("disguise_usage", config.defaultMessages.get("disguise_usage"));
+                config.messages.set("disguise_entity_batch_done", config.defaultMessages.get("disguise_entity_batch_done"));
+
+                // Update config version.
+                config.general.set("config_version", 12);
+
+                // Recheck if the config is fully migrated.
+                migrateConfig(config);
+                break;
+            case "12":
+                // Migrate rate limiting settings.
+                config.general.set("rate_limit_enabled", config.defaultGeneral.get("rate_limit_enabled"));
+                config.general.set("rate_limit_tiers", config.defaultGeneral.get("rate_limit_tiers"));
+                config.general.set("rate_limit_global_burst", config.defaultGeneral.get("rate_limit_global_burst"));
+                config.general.set("rate_limit_global_per_second", config.defaultGeneral.get("rate_limit_global_per_second"));
+                config.messages.set("disguise_rate_limited", config.defaultMessages.get("disguise_rate_limited"));
+
+                // Update config version.
+                config.general.set("config_version", 13);
+
+                // Recheck if the config is fully migrated.
+                migrateConfig(config);
+                break;
+            case "13":
+                // Migrate viewer scope settings.
+                config.general.set("viewer_scope_enabled", config.defaultGeneral.get("viewer_scope_enabled"));
+                config.general.set("viewer_scope_radius", config.defaultGeneral.get("viewer_scope_radius"));
+                config.general.set("viewer_scope_check_ticks", config.defaultGeneral.get("viewer_scope_check_ticks"));
+
+                // Update config version.
+                config.general.set("config_version", 14);
+
+                // Recheck if the config is fully migrated.
+                migrateConfig(config);
+                break;
+            case "14":
+                // Migrate audit log settings.
+                config.general.set("audit_enabled", config.defaultGeneral.get("audit_enabled"));
+                config.general.set("audit_buffer_size", config.defaultGeneral.get("audit_buffer_size"));
+                config.general.set("audit_flush_interval_ms", config.defaultGeneral.get("audit_flush_interval_ms"));
+                config.general.set("audit_max_file_mb", config.defaultGeneral.get("audit_max_file_mb"));
+
+                // Update config version.
+                config.general.set("config_version", 15);
+
+                // Recheck if the config is fully migrated.
+                migrateConfig(config);
                 break;
             default:
                 break;
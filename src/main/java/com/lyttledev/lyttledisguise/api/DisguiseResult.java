@@ -0,0 +1,41 @@
+package com.lyttledev.lyttledisguise.api;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * Outcome of a single disguise operation started through {@link LyttleDisguiseAPI}.
+ *
+ * @param player     the player the operation targeted
+ * @param status     what happened
+ * @param response   the raw disguise provider response (e.g. {@code SUCCESS}, {@code FAIL_NAME_ALREADY_ONLINE}),
+ *                   or the error message for {@link Status#ERROR}
+ * @param name       the name the player was disguised as, including a numbered suffix when the requested
+ *                   name was taken; {@code null} unless {@link Status#SUCCESS}, and for entity disguises and resets
+ * @param durationMs time from the call until the disguise was applied
+ */
+public record DisguiseResult(@NotNull UUID player,
+                             @NotNull Status status,
+                             @Nullable String response,
+                             @Nullable String name,
+                             long durationMs) {
+
+    public enum Status {
+        /** The disguise (or reset) was applied. */
+        SUCCESS,
+        /** The requested skin could not be found; nothing was changed. */
+        SKIN_NOT_FOUND,
+        /** The disguise provider refused the disguise, see {@link #response()}. */
+        FAILED,
+        /** The player left before the disguise could be applied. */
+        OFFLINE,
+        /** An unexpected error occurred, see {@link #response()}. */
+        ERROR
+    }
+
+    public boolean success() {
+        return status == Status.SUCCESS;
+    }
+}
@@ -0,0 +1,71 @@
+package com.lyttledev.lyttledisguise.api;
+
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Programmatic access to LyttleDisguise for other plugins, registered with Bukkit's ServicesManager:
+ * <pre>{@code
+ * LyttleDisguiseAPI api = Bukkit.getServicesManager().load(LyttleDisguiseAPI.class);
+ * }</pre>
+ * The service is registered on the first server tick after LyttleDisguise enables, so look it up
+ * lazily (or from a {@code ServerLoadEvent}) rather than in {@code onEnable}.
+ * <p>
+ * All methods may be called from any thread and never send messages to players. Skin lookups run
+ * off the main thread; disguises are applied on the main thread, where the returned futures complete,
+ * also when a skin is not found or a lookup fails. Only invalid arguments fail right away on the calling thread.
+ * Operations are not rate limited and do not check permissions.
+ */
+public interface LyttleDisguiseAPI {
+
+    /**
+     * Disguises a player under a new name.
+     *
+     * @param player the player to disguise
+     * @param name   the name to show, sanitized like /disguise does (a numbered variant is used if it is taken)
+     * @param skin   player name or UUID to take the skin from, or {@code null} to keep the player's own skin
+     */
+    @NotNull CompletableFuture<DisguiseResult> disguise(@NotNull Player player, @NotNull String name, @Nullable String skin);
+
+    /**
+     * Disguises many players under the same name and skin. The skin is resolved once and all
+     * disguises are applied in a single main-thread task.
+     *
+     * @return one result per player, in iteration order of {@code players}
+     */
+    @NotNull CompletableFuture<List<DisguiseResult>> disguiseAll(@NotNull Collection<? extends Player> players,
+                                                                 @NotNull String name,
+                                                                 @Nullable String skin);
+
+    /**
+     * Disguises a player as a living entity type.
+     */
+    @NotNull CompletableFuture<DisguiseResult> disguiseAsEntity(@NotNull Player player, @NotNull EntityType type);
+
+    /**
+     * Disguises many players as the same living entity type in a single main-thread task.
+     *
+     * @return one result per player, in iteration order of {@code players}
+     */
+    @NotNull CompletableFuture<List<DisguiseResult>> disguiseAllAsEntity(@NotNull Collection<? extends Player> players,
+                                                                         @NotNull EntityType type);
+
+    /**
+     * Removes a player's disguise. Succeeds as well when the player was not disguised.
+     */
+    @NotNull CompletableFuture<DisguiseResult> reset(@NotNull Player player);
+
+    /**
+     * Resolves a skin into the cache ahead of time, so a later disguise with it needs no lookup.
+     *
+     * @param skin player name or UUID
+     * @return {@code true} when the skin was found
+     */
+    @NotNull CompletableFuture<Boolean> prefetchSkin(@NotNull String skin);
+}
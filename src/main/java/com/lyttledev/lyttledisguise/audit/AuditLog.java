@@ -0,0 +1,215 @@
+package com.lyttledev.lyttledisguise.audit;
+
+import com.lyttledev.lyttledisguise.LyttleDisguise;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Moderation trail of disguise activity (who disguised whom, as what, with which result).
+ * Callers only enqueue into a bounded lock-free ring buffer; a background writer drains it in
+ * batches into gzip-compressed files under {@code audit/} in the data folder, rotated daily and by size.
+ * The main thread never touches disk while the plugin is running.
+ */
+public final class AuditLog {
+
+    public enum Action { APPLY, ENTITY, RESET }
+
+    public record Event(long timestamp, Action action, String initiator, String target,
+                        String detail, String result, long durationMs) {
+
+        String toLine() {
+            return Instant.ofEpochMilli(timestamp) + "\t" + action + "\t" + initiator + "\t" + target
+                    + "\t" + detail + "\t" + result + "\t" + durationMs + "ms";
+        }
+    }
+
+    private static final int BATCH_SIZE = 256;
+
+    private final LyttleDisguise plugin;
+    private final File folder;
+
+    // Bounded MPSC ring (Vyukov): each slot's sequence tells producers/consumer whose turn it is.
+    private final int mask;
+    private final AtomicReferenceArray<Event> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong enqueuePos = new AtomicLong();
+    private long dequeuePos;
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    // Writer-thread state
+    private BufferedWriter out;
+    private LocalDate outDate;
+    private File outFile;
+
+    public AuditLog(@NotNull LyttleDisguise plugin) {
+        this.plugin = plugin;
+        this.folder = new File(plugin.getDataFolder(), "audit");
+
+        final int capacity = Integer.highestOneBit(Math.max(64, plugin.settings.auditBufferSize - 1)) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) sequences.set(i, i);
+
+        this.writer = new Thread(this::run, "LyttleDisguise-Audit");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Queues an event; never blocks. Events are dropped (and counted) when the buffer is full.
+     */
+    public void record(@NotNull Action action, @NotNull Player initiator, @NotNull Player target,
+                       String detail, String result, long durationMs) {
+        record(action, initiator.getName() + "/" + initiator.getUniqueId(), target, detail, result, durationMs);
+    }
+
+    /**
+     * Queues an event started by something other than a player (e.g. "api").
+     */
+    public void record(@NotNull Action action, @NotNull String initiator, @NotNull Player target,
+                       String detail, String result, long durationMs) {
+        if (!plugin.settings.auditEnabled) return;
+        final Event event = new Event(System.currentTimeMillis(), action, initiator,
+                target.getName() + "/" + target.getUniqueId(),
+                detail, result, durationMs);
+        if (!offer(event)) dropped.incrementAndGet();
+    }
+
+    private boolean offer(Event event) {
+        long pos = enqueuePos.get();
+        while (true) {
+            final int idx = (int) (pos & mask);
+            final long diff = sequences.get(idx) - pos;
+            if (diff == 0) {
+                if (enqueuePos.compareAndSet(pos, pos + 1)) {
+                    slots.set(idx, event);
+                    sequences.set(idx, pos + 1);
+                    return true;
+                }
+                pos = enqueuePos.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                pos = enqueuePos.get();
+            }
+        }
+    }
+
+    // Single consumer: the writer thread (or close() after it stopped).
+    private Event poll() {
+        final int idx = (int) (dequeuePos & mask);
+        if (sequences.get(idx) - (dequeuePos + 1) != 0) return null;
+        final Event event = slots.get(idx);
+        slots.set(idx, null);
+        sequences.set(idx, dequeuePos + mask + 1);
+        dequeuePos++;
+        return event;
+    }
+
+    private void run() {
+        final List<Event> batch = new ArrayList<>(BATCH_SIZE);
+        while (running) {
+            drainAndWrite(batch);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(Math.max(50, plugin.settings.auditFlushIntervalMs)));
+        }
+    }
+
+    private void drainAndWrite(List<Event> batch) {
+        while (true) {
+            batch.clear();
+            Event event;
+            while (batch.size() < BATCH_SIZE && (event = poll()) != null) batch.add(event);
+            if (batch.isEmpty()) return;
+            write(batch);
+        }
+    }
+
+    private void write(List<Event> batch) {
+        try {
+            final BufferedWriter writer = writerFor(LocalDate.now(ZoneId.systemDefault()));
+            for (Event event : batch) {
+                writer.write(event.toLine());
+                writer.newLine();
+            }
+            final long lost = dropped.getAndSet(0);
+            if (lost > 0) {
+                writer.write(Instant.now() + "\tDROPPED\t" + lost + " events (audit buffer full)");
+                writer.newLine();
+            }
+            writer.flush();
+        } catch (IOException ex) {
+            plugin.getLogger().warning("Could not write the disguise audit log: " + ex.getMessage());
+            closeWriter();
+        }
+    }
+
+    // Rotates per day, and to a numbered file once the current one exceeds the size limit.
+    private BufferedWriter writerFor(LocalDate today) throws IOException {
+        final long maxBytes = Math.max(1, plugin.settings.auditMaxFileMb) * 1024L * 1024L;
+        if (out != null && today.equals(outDate) && outFile.length() < maxBytes) return out;
+
+        closeWriter();
+        if (!folder.exists() && !folder.mkdirs()) throw new IOException("Cannot create " + folder);
+
+        File file = new File(folder, "audit-" + today + ".log.gz");
+        for (int i = 1; file.exists() && file.length() >= maxBytes; i++) {
+            file = new File(folder, "audit-" + today + "-" + i + ".log.gz");
+        }
+
+        // Appending starts a new gzip member, which zcat/gunzip read as one stream.
+        out = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(new FileOutputStream(file, true), true), StandardCharsets.UTF_8));
+        outDate = today;
+        outFile = file;
+        return out;
+    }
+
+    private void closeWriter() {
+        if (out == null) return;
+        try {
+            out.close();
+        } catch (IOException ignored) {
+            // Nothing left to do with a broken stream.
+        }
+        out = null;
+    }
+
+    /**
+     * Stops the writer and flushes what is still queued. Called on disable.
+     */
+    public void close() {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (!writer.isAlive()) {
+            drainAndWrite(new ArrayList<>(BATCH_SIZE));
+            closeWriter();
+        }
+    }
+}
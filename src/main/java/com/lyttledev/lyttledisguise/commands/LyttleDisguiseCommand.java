@@ -31,8 +31,21 @@ public class LyttleDisguiseCommand implements CommandExecutor, TabCompleter {
 
         if (args.length == 1) {
             if (args[0].equalsIgnoreCase("reload")) {
-                plugin.config.reload();
-                plugin.message.sendMessageRaw(sender, Component.text("The config has been reloaded"));
+                plugin.reloadConfigs(() ->
+                        plugin.message.sendMessageRaw(sender, Component.text("The config has been reloaded")));
+            }
+
+            if (args[0].equalsIgnoreCase("stats")) {
+                for (String line : plugin.metrics.report()) {
+                    plugin.message.sendMessageRaw(sender, Component.text(line));
+                }
+            }
+        }
+
+        if (args.length == 2) {
+            if (args[0].equalsIgnoreCase("stats") && args[1].equalsIgnoreCase("reset")) {
+                plugin.metrics.reset();
+                plugin.message.sendMessageRaw(sender, Component.text("The disguise stats have been reset"));
             }
         }
         return true;
@@ -41,7 +54,11 @@ public class LyttleDisguiseCommand implements CommandExecutor, TabCompleter {
     @Override
     public List<String> onTabComplete(CommandSender sender, Command cmd, String label, String[] args) {
         if (args.length == 1) {
-            return List.of("reload");
+            return List.of("reload", "stats");
+        }
+
+        if (args.length == 2 && args[0].equalsIgnoreCase("stats")) {
+            return List.of("reset");
         }
 
         return List.of();
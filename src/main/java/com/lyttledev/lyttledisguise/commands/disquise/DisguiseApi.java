@@ -0,0 +1,65 @@
+package com.lyttledev.lyttledisguise.commands.disquise;
+
+import com.lyttledev.lyttledisguise.api.DisguiseResult;
+import com.lyttledev.lyttledisguise.api.LyttleDisguiseAPI;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link LyttleDisguiseAPI} backed by the silent workflows of DisguiseService.
+ */
+final class DisguiseApi implements LyttleDisguiseAPI {
+
+    private final DisguiseService service;
+
+    DisguiseApi(@NotNull DisguiseService service) {
+        this.service = service;
+    }
+
+    @Override
+    public @NotNull CompletableFuture<DisguiseResult> disguise(@NotNull Player player, @NotNull String name, @Nullable String skin) {
+        Objects.requireNonNull(player, "player");
+        Objects.requireNonNull(name, "name");
+        return service.applyDisguiseSilently(List.of(player), name, skin).thenApply(results -> results.get(0));
+    }
+
+    @Override
+    public @NotNull CompletableFuture<List<DisguiseResult>> disguiseAll(@NotNull Collection<? extends Player> players,
+                                                                        @NotNull String name,
+                                                                        @Nullable String skin) {
+        Objects.requireNonNull(name, "name");
+        return service.applyDisguiseSilently(List.copyOf(players), name, skin);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<DisguiseResult> disguiseAsEntity(@NotNull Player player, @NotNull EntityType type) {
+        Objects.requireNonNull(player, "player");
+        return disguiseAllAsEntity(List.of(player), type).thenApply(results -> results.get(0));
+    }
+
+    @Override
+    public @NotNull CompletableFuture<List<DisguiseResult>> disguiseAllAsEntity(@NotNull Collection<? extends Player> players,
+                                                                                @NotNull EntityType type) {
+        if (!DisguiseCommand.isValidEntityType(Objects.requireNonNull(type, "type"))) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Not a living, spawnable entity type: " + type));
+        }
+        return service.applyEntityDisguiseSilently(List.copyOf(players), type);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<DisguiseResult> reset(@NotNull Player player) {
+        return service.resetSilently(Objects.requireNonNull(player, "player"));
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Boolean> prefetchSkin(@NotNull String skin) {
+        return service.prefetchSkin(Objects.requireNonNull(skin, "skin"));
+    }
+}
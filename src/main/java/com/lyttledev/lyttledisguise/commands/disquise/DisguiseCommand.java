@@ -1,7 +1,10 @@
 package com.lyttledev.lyttledisguise.commands.disquise;
 
 import com.lyttledev.lyttledisguise.LyttleDisguise;
+import com.lyttledev.lyttledisguise.api.LyttleDisguiseAPI;
 import com.lyttledev.lyttledisguise.types.Configs;
+import com.lyttledev.lyttledisguise.types.MessageTemplates.Slot;
+import com.lyttledev.lyttledisguise.types.MessageTemplates.Values;
 import com.lyttledev.lyttledisguise.commands.disquise.NameUtil;
 import com.lyttledev.lyttledisguise.commands.disquise.SkinResolver;
 import com.lyttledev.lyttledisguise.commands.disquise.DisguiseService;
@@ -13,6 +16,7 @@ import org.bukkit.OfflinePlayer;
 import org.bukkit.command.*;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.ServicePriority;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
@@ -25,29 +29,64 @@ import java.util.stream.Collectors;
 public final class DisguiseCommand implements CommandExecutor, TabCompleter {
     private final LyttleDisguise plugin;
     private final DisguiseService service;
+    private final SkinResolver skinResolver;
+    private final RateLimiter rateLimiter;
 
     private static final int PLAYER_SUGGESTION_CAP = 35;
     private static final int NAME_SUGGESTION_CAP = 35;
     private static final List<String> HARD_CODED = Arrays.asList("username", "skinname", "entity", "clear");
-    private static final List<String> ENTITY_TYPES = getValidEntityTypes();
+    private static final String ALL_PLAYERS = "@a";
+
+    // Built on first use (entity command or tab completion) instead of at class load.
+    private static final class EntityTypes {
+        static final Map<String, EntityType> VALID = getValidEntityTypes();
+        static final List<String> NAMES = VALID.values().stream()
+                .map(EntityType::name)
+                .collect(Collectors.toUnmodifiableList());
+    }
 
     public DisguiseCommand(@NotNull LyttleDisguise plugin, @NotNull DisguiseProvider provider) {
         this.plugin = plugin;
-        this.service = new DisguiseService(plugin, provider, new SkinResolver(plugin));
+        this.skinResolver = new SkinResolver(plugin);
+        this.service = new DisguiseService(plugin, provider, skinResolver, plugin.metrics);
+        this.rateLimiter = new RateLimiter(plugin);
+
+        // Warm the configured event skins in the background
+        skinResolver.prewarm();
+
+        // Same workflows for other plugins, without chat feedback
+        Bukkit.getServicesManager().register(LyttleDisguiseAPI.class, new DisguiseApi(service), plugin, ServicePriority.Normal);
     }
 
-    private static boolean isValidEntityType(EntityType type) {
+    /**
+     * Releases what outlives single commands (hidden viewers, the shared skin store connection);
+     * called on plugin disable.
+     */
+    public void close() {
+        service.close();
+        skinResolver.close();
+    }
+
+    static boolean isValidEntityType(EntityType type) {
         return type.isAlive() && type.isSpawnable() && type != EntityType.PLAYER;
     }
 
-    private static List<String> getValidEntityTypes() {
-        List<String> types = new ArrayList<>();
+    /**
+     * @return the disguisable entity type with this (case-insensitive) name, or {@code null}
+     */
+    static EntityType parseEntityType(@NotNull String raw) {
+        return EntityTypes.VALID.get(raw.toLowerCase(Locale.ROOT));
+    }
+
+    // Lowercase name -> type, so command parsing is a single lookup without valueOf/exception handling.
+    private static Map<String, EntityType> getValidEntityTypes() {
+        Map<String, EntityType> types = new LinkedHashMap<>();
         for (EntityType type : EntityType.values()) {
             if (isValidEntityType(type)) {
-                types.add(type.name());
+                types.put(type.name().toLowerCase(Locale.ROOT), type);
             }
         }
-        return types;
+        return Collections.unmodifiableMap(types);
     }
 
     @Override
@@ -76,8 +115,27 @@ public final class DisguiseCommand implements CommandExecutor, TabCompleter {
         int argOffset = 0;
         Player target = player;
 
-        // Target other player if first argument is a player name (and not a command keyword)
+        // /disguise @a entity <entity_type> disguises every online player in one batch
         String firstArg = args[0];
+        if (ALL_PLAYERS.equals(firstArg)
+                && (player.hasPermission("lyttledisguise.disguise.others") || player.isOp())) {
+            if (args.length < 3 || !"entity".equalsIgnoreCase(args[1])) {
+                plugin.message.sendMessage(sender, "disguise_usage",
+                        new Replacements.Builder().add("<LABEL>", label).build());
+                return true;
+            }
+            EntityType entityType = parseEntityType(args[2]);
+            if (entityType == null) {
+                plugin.message.sendMessage(sender, "disguise_invalid_entity",
+                        new Replacements.Builder().add("<ENTITY>", args[2]).build());
+                return true;
+            }
+            if (throttled(player)) return true;
+            service.applyEntityDisguise(new ArrayList<>(Bukkit.getOnlinePlayers()), entityType, player);
+            return true;
+        }
+
+        // Target other player if first argument is a player name (and not a command keyword)
         if (args.length >= 2
                 && !firstArg.equalsIgnoreCase("username")
                 && !firstArg.equalsIgnoreCase("skinname")
@@ -94,6 +152,7 @@ public final class DisguiseCommand implements CommandExecutor, TabCompleter {
 
         // Handle /disguise clear (self) or /disguise <player> clear (others)
         if ("clear".equalsIgnoreCase(mode)) {
+            if (throttled(player)) return true;
             service.resetDisguise(target, player);
             return true;
         }
@@ -112,24 +171,21 @@ public final class DisguiseCommand implements CommandExecutor, TabCompleter {
 
         switch (mode.toLowerCase(Locale.ROOT)) {
             case "entity":
-                try {
-                    EntityType entityType = EntityType.valueOf(argument.toUpperCase(Locale.ROOT));
-                    if (!isValidEntityType(entityType)) {
-                        plugin.message.sendMessage(sender, "disguise_invalid_entity",
-                                new Replacements.Builder().add("<ENTITY>", argument).build());
-                        return true;
-                    }
-                    service.applyEntityDisguise(target, entityType, player);
-                } catch (IllegalArgumentException e) {
+                EntityType entityType = parseEntityType(argument);
+                if (entityType == null) {
                     plugin.message.sendMessage(sender, "disguise_invalid_entity",
                             new Replacements.Builder().add("<ENTITY>", argument).build());
                     return true;
                 }
+                if (throttled(player)) return true;
+                service.applyEntityDisguise(target, entityType, player);
                 break;
             case "username":
+                if (throttled(player)) return true;
                 service.applyDisguise(target, argument, argument, true, player);
                 break;
             case "skinname":
+                if (throttled(player)) return true;
                 service.applyDisguise(target, target.getName(), argument, true, player);
                 break;
             default:
@@ -141,6 +197,15 @@ public final class DisguiseCommand implements CommandExecutor, TabCompleter {
         return true;
     }
 
+    // Takes a rate limit token right before work is scheduled, so usage errors cost nothing.
+    private boolean throttled(Player player) {
+        final long retryAfterMillis = rateLimiter.tryAcquire(player);
+        if (retryAfterMillis <= 0) return false;
+        plugin.templates.send(player, "disguise_rate_limited", new Values()
+                .with(Slot.DURATION, String.format(Locale.ROOT, "%.1f", retryAfterMillis / 1000.0)));
+        return true;
+    }
+
     @Override
     public List<String> onTabComplete(@NotNull CommandSender sender,
                                       @NotNull Command command,
@@ -158,6 +223,7 @@ public final class DisguiseCommand implements CommandExecutor, TabCompleter {
             }
             // Online players for <player> argument (others)
             if (canTargetOthers) {
+                if (ALL_PLAYERS.startsWith(prefix)) suggestions.add(ALL_PLAYERS);
                 int cnt = 0;
                 for (Player p : Bukkit.getOnlinePlayers()) {
                     if (cnt++ >= PLAYER_SUGGESTION_CAP) break;
@@ -170,6 +236,16 @@ public final class DisguiseCommand implements CommandExecutor, TabCompleter {
             return suggestions;
         }
 
+        // /disguise @a entity <entity_type>
+        if (ALL_PLAYERS.equals(args[0]) && canTargetOthers) {
+            if (args.length == 2 && "entity".startsWith(args[1].toLowerCase(Locale.ROOT))) {
+                suggestions.add("entity");
+            } else if (args.length == 3 && "entity".equalsIgnoreCase(args[1])) {
+                addEntitySuggestions(args[2].toLowerCase(Locale.ROOT), suggestions);
+            }
+            return suggestions;
+        }
+
         // Others-syntax detection
         boolean othersSyntax = false;
         int argOffset = 0;
@@ -259,7 +335,7 @@ public final class DisguiseCommand implements CommandExecutor, TabCompleter {
 
     private void addEntitySuggestions(String prefix, List<String> out) {
         String lowerPrefix = prefix.toLowerCase(Locale.ROOT);
-        for (String entityType : ENTITY_TYPES) {
+        for (String entityType : EntityTypes.NAMES) {
             if (entityType.toLowerCase(Locale.ROOT).startsWith(lowerPrefix)) {
                 out.add(entityType);
             }
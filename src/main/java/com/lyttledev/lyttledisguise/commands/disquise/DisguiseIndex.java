@@ -0,0 +1,60 @@
+package com.lyttledev.lyttledisguise.commands.disquise;
+
+import com.lyttledev.lyttledisguise.LyttleDisguise;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Current disguise of every disguised player, kept up to date by DisguiseService on each apply and reset.
+ * Lookups are a single map read of an immutable state, safe from any thread, so placeholders polled by
+ * scoreboards and tab lists never touch the disguise provider.
+ */
+public final class DisguiseIndex implements Listener {
+
+    /**
+     * @param name   the applied disguise name, {@code null} for entity disguises
+     * @param skin   the skin the name disguise was resolved from, {@code null} when none was fetched
+     * @param entity the entity type, {@code null} for name disguises
+     */
+    public record State(@Nullable String name, @Nullable String skin, @Nullable EntityType entity) {}
+
+    private final Map<UUID, State> states = new ConcurrentHashMap<>();
+
+    public DisguiseIndex(@NotNull LyttleDisguise plugin) {
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+    }
+
+    /**
+     * @return the player's disguise, or {@code null} when not disguised
+     */
+    public @Nullable State get(@NotNull UUID player) {
+        return states.get(player);
+    }
+
+    void disguised(Player player, String name, String skin) {
+        states.put(player.getUniqueId(), new State(name, skin, null));
+    }
+
+    void disguised(Player player, EntityType entity) {
+        states.put(player.getUniqueId(), new State(null, null, entity));
+    }
+
+    void cleared(Player player) {
+        states.remove(player.getUniqueId());
+    }
+
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        states.remove(event.getPlayer().getUniqueId());
+    }
+}
@@ -0,0 +1,126 @@
+package com.lyttledev.lyttledisguise.commands.disquise;
+
+import org.bukkit.Bukkit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lightweight live metrics for disguise operations, shown by /lyttledisguise stats.
+ * Tracks throughput, main-thread time, queue depths and completion latency percentiles
+ * so behaviour under event load (hundreds of disguises per minute) can be measured in place.
+ */
+public final class DisguiseMetrics {
+
+    public enum Operation { DISGUISE, ENTITY, RESET }
+
+    // Most recent completion latencies, used for percentiles.
+    private static final int LATENCY_WINDOW = 1024;
+
+    private final EnumMap<Operation, LongAdder> completed = new EnumMap<>(Operation.class);
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder mainThreadNanos = new LongAdder();
+    private final AtomicLong mainThreadMaxNanos = new AtomicLong();
+    private final AtomicInteger pendingResolves = new AtomicInteger();
+    private final AtomicInteger pendingResolvesPeak = new AtomicInteger();
+    private final AtomicInteger pendingMain = new AtomicInteger();
+    private final AtomicInteger pendingMainPeak = new AtomicInteger();
+    private final AtomicLongArray latencies = new AtomicLongArray(LATENCY_WINDOW);
+    private final AtomicLong latencyCursor = new AtomicLong();
+
+    private volatile long windowStartNanos;
+    private volatile int windowStartTick;
+
+    public DisguiseMetrics() {
+        for (Operation op : Operation.values()) completed.put(op, new LongAdder());
+        reset();
+    }
+
+    public void reset() {
+        completed.values().forEach(LongAdder::reset);
+        failed.reset();
+        mainThreadNanos.reset();
+        mainThreadMaxNanos.set(0);
+        pendingResolvesPeak.set(pendingResolves.get());
+        pendingMainPeak.set(pendingMain.get());
+        latencyCursor.set(0);
+        windowStartNanos = System.nanoTime();
+        windowStartTick = Bukkit.getCurrentTick();
+    }
+
+    /**
+     * Adds the time spent on the main thread since {@code startNanos}.
+     */
+    void mainThread(long startNanos) {
+        final long elapsed = System.nanoTime() - startNanos;
+        mainThreadNanos.add(elapsed);
+        mainThreadMaxNanos.accumulateAndGet(elapsed, Math::max);
+    }
+
+    void complete(Operation op, long startNanos, boolean success) {
+        completed.get(op).increment();
+        if (!success) failed.increment();
+        final long slot = latencyCursor.getAndIncrement();
+        latencies.set((int) (slot % LATENCY_WINDOW), System.nanoTime() - startNanos);
+    }
+
+    void resolveQueued() {
+        pendingResolvesPeak.accumulateAndGet(pendingResolves.incrementAndGet(), Math::max);
+    }
+
+    void resolveDone() {
+        pendingResolves.decrementAndGet();
+    }
+
+    void mainQueued() {
+        pendingMainPeak.accumulateAndGet(pendingMain.incrementAndGet(), Math::max);
+    }
+
+    void mainDone() {
+        pendingMain.decrementAndGet();
+    }
+
+    public List<String> report() {
+        final double seconds = Math.max(1e-3, (System.nanoTime() - windowStartNanos) / 1e9);
+        final int ticks = Math.max(1, Bukkit.getCurrentTick() - windowStartTick);
+
+        long total = 0;
+        for (LongAdder adder : completed.values()) total += adder.sum();
+
+        final int samples = (int) Math.min(latencyCursor.get(), LATENCY_WINDOW);
+        final long[] sorted = new long[samples];
+        for (int i = 0; i < samples; i++) sorted[i] = latencies.get(i);
+        Arrays.sort(sorted);
+
+        final List<String> lines = new ArrayList<>();
+        lines.add(String.format(Locale.ROOT, "Window: %.1fs (%d ticks)", seconds, ticks));
+        lines.add(String.format(Locale.ROOT, "Completed: %d (disguise %d, entity %d, reset %d), failed %d",
+                total,
+                completed.get(Operation.DISGUISE).sum(),
+                completed.get(Operation.ENTITY).sum(),
+                completed.get(Operation.RESET).sum(),
+                failed.sum()));
+        lines.add(String.format(Locale.ROOT, "Throughput: %.2f/s", total / seconds));
+        lines.add(String.format(Locale.ROOT, "Main thread: %.3fms/tick avg, %.3fms max per step",
+                mainThreadNanos.sum() / 1e6 / ticks, mainThreadMaxNanos.get() / 1e6));
+        lines.add(String.format(Locale.ROOT, "Queues: resolving %d (peak %d), waiting for main %d (peak %d)",
+                pendingResolves.get(), pendingResolvesPeak.get(), pendingMain.get(), pendingMainPeak.get()));
+        lines.add(String.format(Locale.ROOT, "Latency (last %d): p50 %.1fms, p99 %.1fms",
+                samples, percentile(sorted, 0.50) / 1e6, percentile(sorted, 0.99) / 1e6));
+        lines.add(String.format(Locale.ROOT, "Skin textures held: %d", TextureStore.size()));
+        return lines;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        final int idx = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, idx))];
+    }
+}
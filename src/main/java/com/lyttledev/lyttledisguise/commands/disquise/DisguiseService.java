@@ -1,14 +1,25 @@
 package com.lyttledev.lyttledisguise.commands.disquise;
 
 import com.lyttledev.lyttledisguise.LyttleDisguise;
-import com.lyttledev.lyttleutils.types.Message.Replacements;
+import com.lyttledev.lyttledisguise.api.DisguiseResult;
+import com.lyttledev.lyttledisguise.audit.AuditLog;
+import com.lyttledev.lyttledisguise.types.MessageTemplates.Slot;
+import com.lyttledev.lyttledisguise.types.MessageTemplates.Values;
 import dev.iiahmed.disguise.*;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Encapsulates disguise workflows:
@@ -21,13 +32,40 @@ final class DisguiseService {
     private final LyttleDisguise plugin;
     private final DisguiseProvider provider;
     private final SkinResolver skinResolver;
+    private final DisguiseMetrics metrics;
+    private final ViewerScope viewerScope;
+    private final DisguiseIndex index;
+
+    // Audit initiator for operations started through the public API.
+    private static final String API_INITIATOR = "api";
+
+    // Main-thread executor for API futures, counted in the main queue like command work.
+    private final Executor mainThread;
 
     DisguiseService(@NotNull LyttleDisguise plugin,
                     @NotNull DisguiseProvider provider,
-                    @NotNull SkinResolver skinResolver) {
+                    @NotNull SkinResolver skinResolver,
+                    @NotNull DisguiseMetrics metrics) {
         this.plugin = plugin;
         this.provider = provider;
         this.skinResolver = skinResolver;
+        this.metrics = metrics;
+        this.viewerScope = new ViewerScope(plugin);
+        this.index = plugin.disguises;
+        this.mainThread = task -> {
+            metrics.mainQueued();
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                metrics.mainDone();
+                task.run();
+            });
+        };
+    }
+
+    /**
+     * Shows players hidden by the viewer scope again; called on plugin disable.
+     */
+    void close() {
+        viewerScope.close();
     }
 
     void resetDisguise(@NotNull Player player) {
@@ -35,33 +73,35 @@ final class DisguiseService {
     }
 
     void resetDisguise(@NotNull Player player, @NotNull Player initiator) {
+        final long began = System.nanoTime();
         final long start = System.currentTimeMillis();
-        final UndisguiseResponse res = provider.undisguise(player);
-        if (res == UndisguiseResponse.SUCCESS || res == UndisguiseResponse.FAIL_ALREADY_UNDISGUISED) {
-            plugin.message.sendMessage(player, "disguise_reset",
-                    new Replacements.Builder()
-                            .add("<DURATION>", String.valueOf(System.currentTimeMillis() - start))
-                            .build());
+        // A reset is not scoped: everyone should see the real player again right away.
+        final UndisguiseResponse res = undisguise(player);
+        viewerScope.showAll(player);
+        final boolean success = res == UndisguiseResponse.SUCCESS || res == UndisguiseResponse.FAIL_ALREADY_UNDISGUISED;
+        if (success) {
+            final Values values = new Values()
+                    .with(Slot.TARGET_PLAYER, player.getName())
+                    .with(Slot.DURATION, String.valueOf(System.currentTimeMillis() - start));
+            plugin.templates.send(player, "disguise_reset", values);
             // Also notify initiator if different from target
             if (player != initiator) {
-                plugin.message.sendMessage(initiator, "disguise_reset_success_other",
-                        new Replacements.Builder()
-                                .add("<TARGET_PLAYER>", player.getName())
-                                .add("<DURATION>", String.valueOf(System.currentTimeMillis() - start))
-                                .build());
+                plugin.templates.send(initiator, "disguise_reset_success_other", values);
             }
         } else {
-            plugin.message.sendMessage(player, "disguise_undisguise_failed",
-                    new Replacements.Builder().add("<RESULT>", res.toString()).build());
+            final Values values = new Values()
+                    .with(Slot.TARGET_PLAYER, player.getName())
+                    .with(Slot.RESULT, res.toString());
+            plugin.templates.send(player, "disguise_undisguise_failed", values);
             // Also notify initiator if different from target
             if (player != initiator) {
-                plugin.message.sendMessage(initiator, "disguise_reset_failed_other",
-                        new Replacements.Builder()
-                                .add("<TARGET_PLAYER>", player.getName())
-                                .add("<RESULT>", res.toString())
-                                .build());
+                plugin.templates.send(initiator, "disguise_reset_failed_other", values);
             }
         }
+        plugin.audit.record(AuditLog.Action.RESET, initiator, player, "-", res.toString(),
+                System.currentTimeMillis() - start);
+        metrics.mainThread(began);
+        metrics.complete(DisguiseMetrics.Operation.RESET, began, success);
     }
 
     void applyEntityDisguise(@NotNull Player player, @NotNull EntityType entityType) {
@@ -69,68 +109,108 @@ final class DisguiseService {
     }
 
     void applyEntityDisguise(@NotNull Player player, @NotNull EntityType entityType, @NotNull Player initiator) {
+        final long began = System.nanoTime();
+        boolean success = false;
+
         // cleanup stale disguise to free any previous state
-        preCleanup(player);
+        viewerScope.hideDistantViewers(player);
+        final Feedback feedback = new Feedback(plugin, player);
+        preCleanup(player, feedback);
 
         final long start = System.currentTimeMillis();
-        
+        String outcome;
+
         try {
-            // Use ModernDisguise's Entity builder with the entity type
-            final Disguise disguise = Disguise.builder()
-                    .setEntity(builder -> builder.setType(entityType))
-                    .build();
-            
-            final DisguiseResponse result = provider.disguise(player, disguise);
-            
-            if (result == DisguiseResponse.SUCCESS) {
-                plugin.message.sendMessage(player, "disguise_entity_applied",
-                        new Replacements.Builder()
-                                .add("<ENTITY_TYPE>", entityType.name())
-                                .add("<RESULT>", result.toString())
-                                .add("<DURATION>", String.valueOf(System.currentTimeMillis() - start))
-                                .build());
+            final DisguiseResponse result = disguise(player, entityDisguise(entityType), entityType);
+            outcome = result.toString();
+            final Values values = new Values()
+                    .with(Slot.TARGET_PLAYER, player.getName())
+                    .with(Slot.ENTITY_TYPE, entityType.name())
+                    .with(Slot.RESULT, result.toString())
+                    .with(Slot.DURATION, String.valueOf(System.currentTimeMillis() - start));
+
+            success = result == DisguiseResponse.SUCCESS;
+            if (success) {
+                plugin.templates.send(player, "disguise_entity_applied", values);
                 // Also notify initiator if different from target
                 if (player != initiator) {
-                    plugin.message.sendMessage(initiator, "disguise_entity_applied_other",
-                            new Replacements.Builder()
-                                    .add("<TARGET_PLAYER>", player.getName())
-                                    .add("<ENTITY_TYPE>", entityType.name())
-                                    .add("<RESULT>", result.toString())
-                                    .add("<DURATION>", String.valueOf(System.currentTimeMillis() - start))
-                                    .build());
+                    plugin.templates.send(initiator, "disguise_entity_applied_other", values);
                 }
             } else {
-                plugin.message.sendMessage(player, "disguise_entity_failed",
-                        new Replacements.Builder()
-                                .add("<ENTITY_TYPE>", entityType.name())
-                                .add("<RESULT>", result.toString())
-                                .build());
+                plugin.templates.send(player, "disguise_entity_failed", values);
                 // Also notify initiator if different from target
                 if (player != initiator) {
-                    plugin.message.sendMessage(initiator, "disguise_entity_failed_other",
-                            new Replacements.Builder()
-                                    .add("<TARGET_PLAYER>", player.getName())
-                                    .add("<ENTITY_TYPE>", entityType.name())
-                                    .add("<RESULT>", result.toString())
-                                    .build());
+                    plugin.templates.send(initiator, "disguise_entity_failed_other", values);
                 }
             }
         } catch (Exception ex) {
-            plugin.message.sendMessage(player, "disguise_entity_error",
-                    new Replacements.Builder()
-                            .add("<ENTITY_TYPE>", entityType.name())
-                            .add("<ERROR>", ex.getMessage() == null ? "Unknown error" : ex.getMessage())
-                            .build());
+            outcome = "ERROR: " + ex.getMessage();
+            final Values values = new Values()
+                    .with(Slot.TARGET_PLAYER, player.getName())
+                    .with(Slot.ENTITY_TYPE, entityType.name())
+                    .with(Slot.ERROR, ex.getMessage() == null ? "Unknown error" : ex.getMessage());
+            plugin.templates.send(player, "disguise_entity_error", values);
             // Also notify initiator if different from target
             if (player != initiator) {
-                plugin.message.sendMessage(initiator, "disguise_entity_error_other",
-                        new Replacements.Builder()
-                                .add("<TARGET_PLAYER>", player.getName())
-                                .add("<ENTITY_TYPE>", entityType.name())
-                                .add("<ERROR>", ex.getMessage() == null ? "Unknown error" : ex.getMessage())
-                                .build());
+                plugin.templates.send(initiator, "disguise_entity_error_other", values);
             }
         }
+        plugin.audit.record(AuditLog.Action.ENTITY, initiator, player, entityType.name(), outcome,
+                System.currentTimeMillis() - start);
+        metrics.mainThread(began);
+        metrics.complete(DisguiseMetrics.Operation.ENTITY, began, success);
+    }
+
+    /**
+     * Disguises many players as the same entity in one pass: no per-player cleanup chatter, and a
+     * single summary to the initiator instead of one message per target.
+     */
+    void applyEntityDisguise(@NotNull Collection<? extends Player> players,
+                             @NotNull EntityType entityType,
+                             @NotNull Player initiator) {
+        final long start = System.currentTimeMillis();
+        int applied = 0;
+
+        for (Player player : players) {
+            final long began = System.nanoTime();
+            boolean success = false;
+            String outcome;
+            try {
+                viewerScope.hideDistantViewers(player);
+                if (provider.isDisguised(player)) undisguise(player);
+                final DisguiseResponse result = disguise(player, entityDisguise(entityType), entityType);
+                outcome = result.toString();
+                success = result == DisguiseResponse.SUCCESS;
+                if (success) {
+                    applied++;
+                    plugin.templates.send(player, "disguise_entity_applied", new Values()
+                            .with(Slot.ENTITY_TYPE, entityType.name())
+                            .with(Slot.RESULT, result.toString())
+                            .with(Slot.DURATION, String.valueOf(System.currentTimeMillis() - start)));
+                }
+            } catch (Exception ex) {
+                // Counted as not applied in the summary.
+                outcome = "ERROR: " + ex.getMessage();
+            }
+            plugin.audit.record(AuditLog.Action.ENTITY, initiator, player, entityType.name(), outcome,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - began));
+            metrics.mainThread(began);
+            metrics.complete(DisguiseMetrics.Operation.ENTITY, began, success);
+        }
+
+        plugin.templates.send(initiator, "disguise_entity_batch_done", new Values()
+                .with(Slot.COUNT, String.valueOf(applied))
+                .with(Slot.TOTAL, String.valueOf(players.size()))
+                .with(Slot.ENTITY_TYPE, entityType.name())
+                .with(Slot.DURATION, String.valueOf(System.currentTimeMillis() - start)));
+    }
+
+    // One Disguise per apply: ModernDisguise does not document its Disguise as immutable or safe to share
+    // between players, and building one is cheap next to the provider's packet work (see EntityDisguiseBenchmark).
+    private static Disguise entityDisguise(EntityType entityType) {
+        return Disguise.builder()
+                .setEntity(builder -> builder.setType(entityType))
+                .build();
     }
 
     void applyDisguise(@NotNull Player player,
@@ -145,110 +225,328 @@ final class DisguiseService {
                        String fetchTargetOrNull,
                        boolean doFetch,
                        @NotNull Player initiator) {
+        final long began = System.nanoTime();
 
         // cleanup stale disguise to free any previous nickname registration
-        preCleanup(player);
+        viewerScope.hideDistantViewers(player);
+        final Feedback feedback = new Feedback(plugin, player);
+        preCleanup(player, feedback);
 
         final String baseName = NameUtil.sanitizeBaseName(newNameRaw);
 
         if (!doFetch) {
             final long start = System.currentTimeMillis();
-            final DisguiseResponse result = applyWithRetries(player, baseName, null);
-            plugin.message.sendMessage(player, "disguise_done",
-                    new Replacements.Builder()
-                            .add("<NEW_NAME>", NameUtil.getEffectiveNameFromResult(baseName, result))
-                            .add("<SKIN_TARGET>", "-")
-                            .add("<RESULT>", result.toString())
-                            .add("<DURATION>", String.valueOf(System.currentTimeMillis() - start))
-                            .build());
-            // Also notify initiator if different from target
-            if (player != initiator) {
-                plugin.message.sendMessage(initiator, "disguise_done_other",
-                        new Replacements.Builder()
-                                .add("<TARGET_PLAYER>", player.getName())
-                                .add("<NEW_NAME>", NameUtil.getEffectiveNameFromResult(baseName, result))
-                                .add("<SKIN_TARGET>", "-")
-                                .add("<RESULT>", result.toString())
-                                .add("<DURATION>", String.valueOf(System.currentTimeMillis() - start))
-                                .build());
-            }
+            final Applied applied = applyWithRetries(player, baseName, null, null, feedback);
+            final DisguiseResponse result = applied.response();
+            sendDone(player, initiator, baseName, "-", applied, start);
+            metrics.mainThread(began);
+            metrics.complete(DisguiseMetrics.Operation.DISGUISE, began, result == DisguiseResponse.SUCCESS);
             return;
         }
 
         final String target = fetchTargetOrNull != null ? fetchTargetOrNull : baseName;
-        plugin.message.sendMessage(player, "disguise_resolving",
-                new Replacements.Builder().add("<TARGET>", target).build());
+        feedback.resolving(target);
 
         final long start = System.currentTimeMillis();
+        metrics.resolveQueued();
+        metrics.mainThread(began);
         Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
             try {
-                final SkinResolver.SkinData data = skinResolver.resolve(target);
+                final SkinResolver.SkinData data;
+                try {
+                    data = skinResolver.resolve(target);
+                } finally {
+                    metrics.resolveDone();
+                    metrics.mainQueued();
+                }
                 if (data == null) {
                     Bukkit.getScheduler().runTask(plugin, () -> {
-                        plugin.message.sendMessage(player, "disguise_resolve_failed",
-                                new Replacements.Builder().add("<TARGET>", target).build());
+                        metrics.mainDone();
+                        final long resumed = System.nanoTime();
+                        final Values values = new Values()
+                                .with(Slot.TARGET_PLAYER, player.getName())
+                                .with(Slot.TARGET, target);
+                        plugin.templates.send(player, "disguise_resolve_failed", values);
                         // Also notify initiator if different from target
                         if (player != initiator) {
-                            plugin.message.sendMessage(initiator, "disguise_resolve_failed_other",
-                                    new Replacements.Builder()
-                                            .add("<TARGET_PLAYER>", player.getName())
-                                            .add("<TARGET>", target)
-                                            .build());
+                            plugin.templates.send(initiator, "disguise_resolve_failed_other", values);
                         }
+                        plugin.audit.record(AuditLog.Action.APPLY, initiator, player,
+                                baseName + " skin=" + target, "RESOLVE_FAILED", System.currentTimeMillis() - start);
+                        metrics.mainThread(resumed);
+                        metrics.complete(DisguiseMetrics.Operation.DISGUISE, began, false);
                     });
                     return;
                 }
 
                 Bukkit.getScheduler().runTask(plugin, () -> {
-                    final DisguiseResponse result = applyWithRetries(player, baseName, data);
-                    plugin.message.sendMessage(player, "disguise_done",
-                            new Replacements.Builder()
-                                    .add("<NEW_NAME>", NameUtil.getEffectiveNameFromResult(baseName, result))
-                                    .add("<SKIN_TARGET>", target)
-                                    .add("<RESULT>", result.toString())
-                                    .add("<DURATION>", String.valueOf(System.currentTimeMillis() - start))
-                                    .build());
-                    // Also notify initiator if different from target
-                    if (player != initiator) {
-                        plugin.message.sendMessage(initiator, "disguise_done_other",
-                                new Replacements.Builder()
-                                        .add("<TARGET_PLAYER>", player.getName())
-                                        .add("<NEW_NAME>", NameUtil.getEffectiveNameFromResult(baseName, result))
-                                        .add("<SKIN_TARGET>", target)
-                                        .add("<RESULT>", result.toString())
-                                        .add("<DURATION>", String.valueOf(System.currentTimeMillis() - start))
-                                        .build());
-                    }
+                    metrics.mainDone();
+                    final long resumed = System.nanoTime();
+                    viewerScope.hideDistantViewers(player);
+                    final Applied applied = applyWithRetries(player, baseName, data, target, feedback);
+                    final DisguiseResponse result = applied.response();
+                    sendDone(player, initiator, baseName, target, applied, start);
+                    metrics.mainThread(resumed);
+                    metrics.complete(DisguiseMetrics.Operation.DISGUISE, began, result == DisguiseResponse.SUCCESS);
                 });
             } catch (Exception ex) {
                 Bukkit.getScheduler().runTask(plugin, () -> {
-                    plugin.message.sendMessage(player, "disguise_update_failed",
-                            new Replacements.Builder()
-                                    .add("<ERROR>", ex.getMessage() == null ? "Unknown error" : ex.getMessage())
-                                    .build());
+                    metrics.mainDone();
+                    final long resumed = System.nanoTime();
+                    final Values values = new Values()
+                            .with(Slot.TARGET_PLAYER, player.getName())
+                            .with(Slot.ERROR, ex.getMessage() == null ? "Unknown error" : ex.getMessage());
+                    plugin.templates.send(player, "disguise_update_failed", values);
                     // Also notify initiator if different from target
                     if (player != initiator) {
-                        plugin.message.sendMessage(initiator, "disguise_update_failed_other",
-                                new Replacements.Builder()
-                                        .add("<TARGET_PLAYER>", player.getName())
-                                        .add("<ERROR>", ex.getMessage() == null ? "Unknown error" : ex.getMessage())
-                                        .build());
+                        plugin.templates.send(initiator, "disguise_update_failed_other", values);
                     }
+                    plugin.audit.record(AuditLog.Action.APPLY, initiator, player,
+                            baseName + " skin=" + target, "ERROR: " + ex.getMessage(), System.currentTimeMillis() - start);
+                    metrics.mainThread(resumed);
+                    metrics.complete(DisguiseMetrics.Operation.DISGUISE, began, false);
                 });
             }
         });
     }
 
-    private void preCleanup(Player player) {
+    private void sendDone(Player player, Player initiator, String baseName, String skinTarget,
+                          Applied applied, long start) {
+        // The candidate actually applied (e.g. name_2 after a collision), or the requested name when none was.
+        final String name = applied.name() != null ? applied.name() : baseName;
+        final Values values = new Values()
+                .with(Slot.TARGET_PLAYER, player.getName())
+                .with(Slot.NEW_NAME, name)
+                .with(Slot.SKIN_TARGET, skinTarget)
+                .with(Slot.RESULT, applied.response().toString())
+                .with(Slot.DURATION, String.valueOf(System.currentTimeMillis() - start));
+        plugin.templates.send(player, "disguise_done", values);
+        // Also notify initiator if different from target
+        if (player != initiator) {
+            plugin.templates.send(initiator, "disguise_done_other", values);
+        }
+        plugin.audit.record(AuditLog.Action.APPLY, initiator, player, name + " skin=" + skinTarget,
+                applied.response().toString(), System.currentTimeMillis() - start);
+    }
+
+    private void preCleanup(Player player, Feedback feedback) {
         if (provider.isDisguised(player)) {
-            final UndisguiseResponse res = provider.undisguise(player);
-            plugin.message.sendMessage(player, "disguise_cleanup_result",
-                    new Replacements.Builder().add("<RESULT>", res.toString()).build());
+            feedback.cleanup(undisguise(player));
+        }
+    }
+
+    // Silent workflows for the public API: same steps as above, but the outcome is returned instead of messaged.
+
+    CompletableFuture<List<DisguiseResult>> applyDisguiseSilently(@NotNull List<? extends Player> players,
+                                                                  @NotNull String newNameRaw,
+                                                                  String skinTargetOrNull) {
+        final long began = System.nanoTime();
+        final String baseName = NameUtil.sanitizeBaseName(newNameRaw);
+        if (skinTargetOrNull == null) {
+            return onMainThread(() -> applyAllSilently(players, baseName, null, null, began));
+        }
+
+        final String detail = baseName + " skin=" + skinTargetOrNull;
+        // Every outcome, including a missing skin or a failed lookup, is settled in one main-thread task.
+        return resolveAsync(skinTargetOrNull).handleAsync((data, failure) -> {
+            if (failure != null) {
+                return failAll(players, DisguiseResult.Status.ERROR, errorMessage(failure), detail, began);
+            }
+            if (data == null) {
+                return failAll(players, DisguiseResult.Status.SKIN_NOT_FOUND, null, detail, began);
+            }
+            try {
+                return applyAllSilently(players, baseName, data, skinTargetOrNull, began);
+            } catch (Exception ex) {
+                return failAll(players, DisguiseResult.Status.ERROR, errorMessage(ex), detail, began);
+            }
+        }, mainThread);
+    }
+
+    CompletableFuture<List<DisguiseResult>> applyEntityDisguiseSilently(@NotNull List<? extends Player> players,
+                                                                        @NotNull EntityType entityType) {
+        final long began = System.nanoTime();
+        return onMainThread(() -> {
+            final long resumed = System.nanoTime();
+            final List<DisguiseResult> results = new ArrayList<>(players.size());
+            for (Player player : players) {
+                if (!player.isOnline()) {
+                    results.add(finish(AuditLog.Action.ENTITY, DisguiseMetrics.Operation.ENTITY, player,
+                            DisguiseResult.Status.OFFLINE, null, null, entityType.name(), began));
+                    continue;
+                }
+                DisguiseResult.Status status;
+                String response;
+                try {
+                    viewerScope.hideDistantViewers(player);
+                    if (provider.isDisguised(player)) undisguise(player);
+                    final DisguiseResponse result = disguise(player, entityDisguise(entityType), entityType);
+                    status = result == DisguiseResponse.SUCCESS ? DisguiseResult.Status.SUCCESS : DisguiseResult.Status.FAILED;
+                    response = result.toString();
+                } catch (Exception ex) {
+                    status = DisguiseResult.Status.ERROR;
+                    response = errorMessage(ex);
+                }
+                results.add(finish(AuditLog.Action.ENTITY, DisguiseMetrics.Operation.ENTITY, player,
+                        status, response, null, entityType.name(), began));
+            }
+            metrics.mainThread(resumed);
+            return results;
+        });
+    }
+
+    CompletableFuture<DisguiseResult> resetSilently(@NotNull Player player) {
+        final long began = System.nanoTime();
+        return onMainThread(() -> {
+            final long resumed = System.nanoTime();
+            DisguiseResult.Status status;
+            String response;
+            if (!player.isOnline()) {
+                status = DisguiseResult.Status.OFFLINE;
+                response = null;
+            } else {
+                try {
+                    final UndisguiseResponse res = undisguise(player);
+                    viewerScope.showAll(player);
+                    status = res == UndisguiseResponse.SUCCESS || res == UndisguiseResponse.FAIL_ALREADY_UNDISGUISED
+                            ? DisguiseResult.Status.SUCCESS
+                            : DisguiseResult.Status.FAILED;
+                    response = res.toString();
+                } catch (Exception ex) {
+                    status = DisguiseResult.Status.ERROR;
+                    response = errorMessage(ex);
+                }
+            }
+            final DisguiseResult result = finish(AuditLog.Action.RESET, DisguiseMetrics.Operation.RESET, player,
+                    status, response, null, "-", began);
+            metrics.mainThread(resumed);
+            return result;
+        });
+    }
+
+    CompletableFuture<Boolean> prefetchSkin(@NotNull String target) {
+        return resolveAsync(target).handleAsync((data, failure) -> {
+            if (failure != null) {
+                throw failure instanceof CompletionException completion ? completion : new CompletionException(failure);
+            }
+            return data != null;
+        }, mainThread);
+    }
+
+    private List<DisguiseResult> applyAllSilently(List<? extends Player> players, String baseName,
+                                                  SkinResolver.SkinData skin, String skinTarget, long began) {
+        final long resumed = System.nanoTime();
+        final String skinDetail = " skin=" + (skinTarget != null ? skinTarget : "-");
+        final String detail = baseName + skinDetail;
+        final List<DisguiseResult> results = new ArrayList<>(players.size());
+        for (Player player : players) {
+            if (!player.isOnline()) {
+                results.add(finish(AuditLog.Action.APPLY, DisguiseMetrics.Operation.DISGUISE, player,
+                        DisguiseResult.Status.OFFLINE, null, null, detail, began));
+                continue;
+            }
+            DisguiseResult.Status status;
+            String response;
+            String name = null;
+            try {
+                viewerScope.hideDistantViewers(player);
+                final Feedback feedback = new Feedback(plugin, player, Feedback.Verbosity.NONE);
+                preCleanup(player, feedback);
+                final Applied applied = applyWithRetries(player, baseName, skin, skinTarget, feedback);
+                status = applied.response() == DisguiseResponse.SUCCESS
+                        ? DisguiseResult.Status.SUCCESS
+                        : DisguiseResult.Status.FAILED;
+                response = applied.response().toString();
+                name = applied.name();
+            } catch (Exception ex) {
+                status = DisguiseResult.Status.ERROR;
+                response = errorMessage(ex);
+            }
+            results.add(finish(AuditLog.Action.APPLY, DisguiseMetrics.Operation.DISGUISE, player,
+                    status, response, name, name != null ? name + skinDetail : detail, began));
         }
+        metrics.mainThread(resumed);
+        return results;
     }
 
+    // Nothing was applied, so the results carry no name.
+    private List<DisguiseResult> failAll(List<? extends Player> players, DisguiseResult.Status status,
+                                         String response, String detail, long began) {
+        final List<DisguiseResult> results = new ArrayList<>(players.size());
+        for (Player player : players) {
+            results.add(finish(AuditLog.Action.APPLY, DisguiseMetrics.Operation.DISGUISE, player,
+                    status, response, null, detail, began));
+        }
+        return results;
+    }
+
+    // Records the outcome of one silent operation (audit + metrics) and turns it into an API result.
+    private DisguiseResult finish(AuditLog.Action action, DisguiseMetrics.Operation op, Player player,
+                                  DisguiseResult.Status status, String response, String name, String detail,
+                                  long began) {
+        final long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - began);
+        plugin.audit.record(action, API_INITIATOR, player, detail,
+                response != null ? response : status.name(), durationMs);
+        metrics.complete(op, began, status == DisguiseResult.Status.SUCCESS);
+        return new DisguiseResult(player.getUniqueId(), status, response, name, durationMs);
+    }
+
+    private CompletableFuture<SkinResolver.SkinData> resolveAsync(String target) {
+        final CompletableFuture<SkinResolver.SkinData> future = new CompletableFuture<>();
+        metrics.resolveQueued();
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            final SkinResolver.SkinData data;
+            try {
+                data = skinResolver.resolve(target);
+            } catch (Exception ex) {
+                metrics.resolveDone();
+                future.completeExceptionally(ex);
+                return;
+            }
+            metrics.resolveDone();
+            future.complete(data);
+        });
+        return future;
+    }
+
+    // Runs right away when already on the main thread, otherwise on the next tick.
+    private <T> CompletableFuture<T> onMainThread(Supplier<T> task) {
+        if (Bukkit.isPrimaryThread()) {
+            try {
+                return CompletableFuture.completedFuture(task.get());
+            } catch (Exception ex) {
+                return CompletableFuture.failedFuture(ex);
+            }
+        }
+        return CompletableFuture.supplyAsync(task, mainThread);
+    }
+
+    private static String errorMessage(Throwable ex) {
+        final Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        return cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage();
+    }
+
+    // Provider calls that change a disguise go through here, so the index mirrors the provider's state.
+    private DisguiseResponse disguise(Player player, Disguise disguise, EntityType entityType) {
+        final DisguiseResponse result = provider.disguise(player, disguise);
+        if (result == DisguiseResponse.SUCCESS) index.disguised(player, entityType);
+        return result;
+    }
+
+    private UndisguiseResponse undisguise(Player player) {
+        final UndisguiseResponse result = provider.undisguise(player);
+        if (result == UndisguiseResponse.SUCCESS || result == UndisguiseResponse.FAIL_ALREADY_UNDISGUISED) {
+            index.cleared(player);
+        }
+        return result;
+    }
+
+    // Provider response of a name disguise, with the candidate that was applied (null unless SUCCESS).
+    private record Applied(DisguiseResponse response, String name) {}
+
     // Attempt with base name; on collision, try suffixed variants.
-    private DisguiseResponse applyWithRetries(Player player, String baseName, SkinResolver.SkinData skin) {
+    private Applied applyWithRetries(Player player, String baseName, SkinResolver.SkinData skin,
+                                     String skinTarget, Feedback feedback) {
         final int maxAttempts = 25;
         DisguiseResponse last = DisguiseResponse.FAIL_EMPTY_DISGUISE;
 
@@ -258,8 +556,8 @@ final class DisguiseService {
 
             // Apply skin preference: textures/signature first, then UUID via SkinAPI fallback
             if (skin != null) {
-                if (skin.textures != null && skin.signature != null) {
-                    builder.setSkin(skin.textures, skin.signature);
+                if (skin.texture != null) {
+                    builder.setSkin(skin.texture.value(), skin.texture.signature());
                 } else if (skin.uuid != null) {
                     builder.setSkin(SkinAPI.MOJANG, skin.uuid);
                 }
@@ -269,11 +567,11 @@ final class DisguiseService {
             final DisguiseResponse result = provider.disguise(player, disguise);
 
             if (result == DisguiseResponse.SUCCESS) {
+                index.disguised(player, candidate, skinTarget);
                 if (attempt > 1) {
-                    plugin.message.sendMessage(player, "disguise_name_retry_success",
-                            new Replacements.Builder().add("<CANDIDATE>", candidate).build());
+                    feedback.retrySucceeded(candidate);
                 }
-                return result;
+                return new Applied(result, candidate);
             }
 
             if (result == DisguiseResponse.FAIL_NAME_ALREADY_ONLINE
@@ -281,21 +579,16 @@ final class DisguiseService {
                     || result == DisguiseResponse.FAIL_NAME_TOO_LONG) {
 
                 if (attempt < maxAttempts) {
-                    plugin.message.sendMessage(player, "disguise_name_retry",
-                            new Replacements.Builder().add("<CANDIDATE>", candidate).build());
+                    feedback.retry(candidate);
                     last = result;
                 } else {
-                    plugin.message.sendMessage(player, "disguise_name_giveup",
-                            new Replacements.Builder()
-                                    .add("<BASE>", baseName)
-                                    .add("<ATTEMPTS>", String.valueOf(maxAttempts))
-                                    .build());
-                    return result;
+                    feedback.giveUp(baseName, maxAttempts);
+                    return new Applied(result, null);
                 }
             } else {
-                return result;
+                return new Applied(result, null);
             }
         }
-        return last;
+        return new Applied(last, null);
     }
 }
\ No newline at end of file
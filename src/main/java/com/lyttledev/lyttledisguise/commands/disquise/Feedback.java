@@ -0,0 +1,99 @@
+package com.lyttledev.lyttledisguise.commands.disquise;
+
+import com.lyttledev.lyttledisguise.LyttleDisguise;
+import com.lyttledev.lyttledisguise.types.MessageTemplates.Slot;
+import com.lyttledev.lyttledisguise.types.MessageTemplates.Values;
+import dev.iiahmed.disguise.UndisguiseResponse;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+
+/**
+ * Intermediate feedback of a single disguise operation (cleanup, resolving, name retries),
+ * routed by the configured verbosity. Final outcome messages are not affected.
+ */
+final class Feedback {
+
+    enum Verbosity {
+        /** Every event as a chat message. */
+        FULL,
+        /** Retries folded into one chat message, cleanup hidden. */
+        SUMMARY,
+        /** Progress and the retry summary on the action bar only. */
+        ACTIONBAR,
+        /** Only final outcome messages. */
+        QUIET,
+        /** Nothing at all; used for disguises started through the API. */
+        NONE;
+
+        static Verbosity parse(String raw) {
+            if (raw == null) return FULL;
+            try {
+                return valueOf(raw.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ignored) {
+                return FULL;
+            }
+        }
+    }
+
+    private final LyttleDisguise plugin;
+    private final Player player;
+    private final Verbosity verbosity;
+    private int retries;
+
+    Feedback(@NotNull LyttleDisguise plugin, @NotNull Player player) {
+        this(plugin, player, Verbosity.parse(plugin.settings.feedbackVerbosity));
+    }
+
+    Feedback(@NotNull LyttleDisguise plugin, @NotNull Player player, @NotNull Verbosity verbosity) {
+        this.plugin = plugin;
+        this.player = player;
+        this.verbosity = verbosity;
+    }
+
+    void cleanup(UndisguiseResponse result) {
+        final Values values = new Values().with(Slot.RESULT, result.toString());
+        switch (verbosity) {
+            case FULL -> plugin.templates.send(player, "disguise_cleanup_result", values);
+            case ACTIONBAR -> plugin.templates.sendActionBar(player, "disguise_cleanup_result", values);
+            default -> { }
+        }
+    }
+
+    void resolving(String target) {
+        final Values values = new Values().with(Slot.TARGET, target);
+        switch (verbosity) {
+            case FULL, SUMMARY -> plugin.templates.send(player, "disguise_resolving", values);
+            case ACTIONBAR -> plugin.templates.sendActionBar(player, "disguise_resolving", values);
+            default -> { }
+        }
+    }
+
+    void retry(String candidate) {
+        retries++;
+        if (verbosity == Verbosity.FULL) {
+            plugin.templates.send(player, "disguise_name_retry", new Values().with(Slot.CANDIDATE, candidate));
+        }
+    }
+
+    void retrySucceeded(String candidate) {
+        final Values values = new Values()
+                .with(Slot.CANDIDATE, candidate)
+                .with(Slot.ATTEMPTS, String.valueOf(retries));
+        switch (verbosity) {
+            case FULL -> plugin.templates.send(player, "disguise_name_retry_success", values);
+            case SUMMARY -> plugin.templates.send(player, "disguise_name_retry_summary", values);
+            case ACTIONBAR -> plugin.templates.sendActionBar(player, "disguise_name_retry_summary", values);
+            default -> { }
+        }
+    }
+
+    // Giving up is an outcome, so it is always reported in chat (unless the caller reports outcomes itself).
+    void giveUp(String baseName, int attempts) {
+        if (verbosity == Verbosity.NONE) return;
+        plugin.templates.send(player, "disguise_name_giveup", new Values()
+                .with(Slot.BASE, baseName)
+                .with(Slot.ATTEMPTS, String.valueOf(attempts)));
+    }
+}
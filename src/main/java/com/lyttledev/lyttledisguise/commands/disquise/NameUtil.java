@@ -1,7 +1,5 @@
 package com.lyttledev.lyttledisguise.commands.disquise;
 
-import dev.iiahmed.disguise.DisguiseResponse;
-
 import java.util.regex.Pattern;
 
 /**
@@ -30,11 +28,6 @@ final class NameUtil {
         return sanitizeToAllowed(kept + suffix);
     }
 
-    static String getEffectiveNameFromResult(String requested, DisguiseResponse result) {
-        // We cannot read-back the exact applied nickname; return requested best-effort.
-        return requested;
-    }
-
     private static String sanitizeToAllowed(String s) {
         if (s == null) return "";
         StringBuilder out = new StringBuilder(s.length());
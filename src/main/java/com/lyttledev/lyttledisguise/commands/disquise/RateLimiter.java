@@ -0,0 +1,135 @@
+package com.lyttledev.lyttledisguise.commands.disquise;
+
+import com.lyttledev.lyttledisguise.LyttleDisguise;
+import com.lyttledev.lyttledisguise.types.Settings;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-player and global token buckets for /disguise, checked before any work is scheduled.
+ * Each bucket is a single AtomicLong holding its "theoretical arrival time" (GCRA), so a
+ * check is one CAS without locks. Per-player limits come from the first configured tier
+ * the player has {@code lyttledisguise.ratelimit.<tier>} for, falling back to "default".
+ */
+final class RateLimiter {
+
+    static final String BYPASS_PERMISSION = "lyttledisguise.ratelimit.bypass";
+
+    private static final int PRUNE_SIZE = 1024;
+
+    record Tier(String name, int burst, double perSecond) {
+        static Tier parse(String raw) {
+            // name:burst:per_second
+            final String[] parts = raw.split(":");
+            if (parts.length != 3) return null;
+            try {
+                final int burst = Integer.parseInt(parts[1].trim());
+                final double perSecond = Double.parseDouble(parts[2].trim());
+                if (burst < 1 || perSecond <= 0) return null;
+                return new Tier(parts[0].trim(), burst, perSecond);
+            } catch (NumberFormatException ex) {
+                return null;
+            }
+        }
+    }
+
+    private final LyttleDisguise plugin;
+    private final Map<UUID, AtomicLong> players = new ConcurrentHashMap<>();
+    private final AtomicLong global = new AtomicLong(System.nanoTime());
+    private volatile ParsedTiers parsedTiers;
+
+    private record ParsedTiers(Settings source, List<Tier> tiers) {}
+
+    RateLimiter(@NotNull LyttleDisguise plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Takes a token for the player and one from the server-wide bucket; when either is empty, neither is taken.
+     *
+     * @return 0 when allowed, otherwise the milliseconds until the next attempt may pass
+     */
+    long tryAcquire(@NotNull Player player) {
+        final Settings settings = plugin.settings;
+        if (!settings.rateLimitEnabled || player.hasPermission(BYPASS_PERMISSION)) {
+            return 0;
+        }
+
+        final long now = System.nanoTime();
+        final Tier tier = tierFor(player, settings);
+        AtomicLong bucket = null;
+        if (tier != null) {
+            if (players.size() >= PRUNE_SIZE) {
+                players.values().removeIf(tat -> tat.get() - now < 0);
+            }
+            bucket = players.computeIfAbsent(player.getUniqueId(), id -> new AtomicLong(now));
+            final long wait = acquire(bucket, now, tier.burst(), tier.perSecond());
+            if (wait > 0) return TimeUnit.NANOSECONDS.toMillis(wait) + 1;
+        }
+
+        final int globalBurst = settings.rateLimitGlobalBurst;
+        final double globalPerSecond = settings.rateLimitGlobalPerSecond;
+        if (globalBurst > 0 && globalPerSecond > 0) {
+            final long wait = acquire(global, now, globalBurst, globalPerSecond);
+            if (wait > 0) {
+                // The attempt is rejected, so it must not count against the player's own bucket either.
+                if (bucket != null) bucket.addAndGet(-interval(tier.perSecond()));
+                return TimeUnit.NANOSECONDS.toMillis(wait) + 1;
+            }
+        }
+        return 0;
+    }
+
+    private Tier tierFor(Player player, Settings settings) {
+        Tier fallback = null;
+        for (Tier tier : tiers(settings)) {
+            if ("default".equalsIgnoreCase(tier.name())) {
+                fallback = tier;
+            } else if (player.hasPermission("lyttledisguise.ratelimit." + tier.name())) {
+                return tier;
+            }
+        }
+        return fallback;
+    }
+
+    // Parsed once per settings snapshot.
+    private List<Tier> tiers(Settings settings) {
+        final ParsedTiers cached = parsedTiers;
+        if (cached != null && cached.source() == settings) return cached.tiers();
+
+        final List<Tier> tiers = new ArrayList<>();
+        for (String raw : settings.rateLimitTiers) {
+            final Tier tier = Tier.parse(raw);
+            if (tier != null) tiers.add(tier);
+        }
+        final ParsedTiers parsed = new ParsedTiers(settings, List.copyOf(tiers));
+        parsedTiers = parsed;
+        return parsed.tiers();
+    }
+
+    // GCRA: allow while the theoretical arrival time is at most (burst - 1) intervals ahead of now.
+    private static long acquire(AtomicLong tat, long now, int burst, double perSecond) {
+        final long interval = interval(perSecond);
+        final long tolerance = interval * (burst - 1L);
+
+        while (true) {
+            final long current = tat.get();
+            final long base = current - now > 0 ? current : now;
+            final long ahead = base - now;
+            if (ahead > tolerance) return ahead - tolerance;
+            if (tat.compareAndSet(current, base + interval)) return 0;
+        }
+    }
+
+    private static long interval(double perSecond) {
+        return (long) (TimeUnit.SECONDS.toNanos(1) / perSecond);
+    }
+}
@@ -0,0 +1,233 @@
+package com.lyttledev.lyttledisguise.commands.disquise;
+
+import com.lyttledev.lyttledisguise.LyttleDisguise;
+import com.lyttledev.lyttledisguise.types.Settings;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolved skins by lookup input. An in-memory layer is always used; when
+ * {@code skin_cache_shared_directory} is set, entries are also read from and written to a
+ * SQLite file there, so every server on the host shares skins resolved by any of them.
+ * SQLite's file locking keeps concurrent access from several processes safe. The memory layer holds at
+ * most {@value #MEMORY_MAX_SIZE} entries.
+ * Only called from async tasks, never from the main thread.
+ */
+final class SkinCache {
+
+    record Entry(SkinResolver.SkinData data, long storedAt) {}
+
+    private static final int MEMORY_MAX_SIZE = 2048;
+    private static final String DATABASE_FILE = "skins.db";
+
+    private final LyttleDisguise plugin;
+    private final Map<String, Entry> memory = new ConcurrentHashMap<>();
+
+    private volatile String sharedDirectory;
+    private volatile SharedStore shared;
+
+    SkinCache(@NotNull LyttleDisguise plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Fresh entry for the input, or null when absent or older than the configured TTL.
+     */
+    SkinResolver.SkinData get(@NotNull String input) {
+        final Entry entry = lookup(input);
+        if (entry == null || isExpired(entry)) return null;
+        return entry.data();
+    }
+
+    Entry lookup(@NotNull String input) {
+        final String key = key(input);
+        final Entry cached = memory.get(key);
+        if (cached != null && !isExpired(cached)) return cached;
+        if (cached != null && !isUsable(cached)) memory.remove(key, cached);
+
+        final Entry shared = readShared(key);
+        if (shared != null && (cached == null || shared.storedAt() > cached.storedAt())) {
+            memory.put(key, shared);
+            return shared;
+        }
+        return cached != null && isUsable(cached) ? cached : null;
+    }
+
+    void put(@NotNull String input, @NotNull SkinResolver.SkinData data) {
+        final String key = key(input);
+        final Entry entry = new Entry(data, System.currentTimeMillis());
+        if (memory.size() >= MEMORY_MAX_SIZE) evict();
+        memory.put(key, entry);
+        writeShared(key, entry);
+    }
+
+    /**
+     * Past the TTL; should be refreshed but may still be served while that happens.
+     */
+    boolean isExpired(Entry entry) {
+        final long ttl = TimeUnit.SECONDS.toMillis(plugin.settings.cacheTtlSeconds);
+        return System.currentTimeMillis() - entry.storedAt() > ttl;
+    }
+
+    /**
+     * Within the TTL plus the stale window, so it can be served immediately.
+     */
+    boolean isUsable(Entry entry) {
+        final Settings settings = plugin.settings;
+        final long ttl = TimeUnit.SECONDS.toMillis(settings.cacheTtlSeconds);
+        final long stale = TimeUnit.SECONDS.toMillis(settings.cacheStaleSeconds);
+        return System.currentTimeMillis() - entry.storedAt() <= ttl + stale;
+    }
+
+    // Drops unusable entries, then the oldest ones down to three quarters of the cap, so the scan and
+    // sort run once per few hundred puts. Evicted skins are still in the shared store or at the providers.
+    private void evict() {
+        memory.values().removeIf(e -> !isUsable(e));
+        final int excess = memory.size() - MEMORY_MAX_SIZE * 3 / 4;
+        if (excess <= 0) return;
+        memory.entrySet().stream()
+                .sorted(Comparator.comparingLong(e -> e.getValue().storedAt()))
+                .limit(excess)
+                .toList()
+                .forEach(e -> memory.remove(e.getKey(), e.getValue()));
+    }
+
+    private static String key(String input) {
+        return input.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private Entry readShared(String key) {
+        final SharedStore store = sharedStore();
+        if (store == null) return null;
+
+        try {
+            return store.read(key);
+        } catch (SQLException | IllegalArgumentException ex) {
+            plugin.getLogger().warning("Could not read the shared skin cache: " + ex.getMessage());
+            return null;
+        }
+    }
+
+    private void writeShared(String key, Entry entry) {
+        final SharedStore store = sharedStore();
+        if (store == null) return;
+
+        try {
+            store.write(key, entry);
+        } catch (SQLException ex) {
+            plugin.getLogger().warning("Could not write the shared skin cache: " + ex.getMessage());
+        }
+    }
+
+    // The shared store for the configured directory, or null when disabled. Opened on first use and kept
+    // open; a reload that changes the directory closes the old store and opens the new one.
+    private SharedStore sharedStore() {
+        final String directory = plugin.settings.cacheSharedDirectory;
+        if (directory.equals(sharedDirectory)) return shared;
+
+        synchronized (this) {
+            if (directory.equals(sharedDirectory)) return shared;
+            if (shared != null) shared.close();
+            SharedStore store = null;
+            if (!directory.isEmpty()) {
+                try {
+                    Class.forName("org.sqlite.JDBC");
+                    final Path folder = Paths.get(directory);
+                    Files.createDirectories(folder);
+                    store = new SharedStore("jdbc:sqlite:" + folder.resolve(DATABASE_FILE).toAbsolutePath());
+                } catch (Exception ex) {
+                    plugin.getLogger().warning("Shared skin cache disabled, could not open " + directory + ": " + ex.getMessage());
+                }
+            }
+            shared = store;
+            sharedDirectory = directory;
+            return store;
+        }
+    }
+
+    void close() {
+        synchronized (this) {
+            if (shared != null) shared.close();
+            shared = null;
+            sharedDirectory = null;
+        }
+    }
+
+    /**
+     * One SQLite connection with its prepared statements, kept for the life of the process and shared by
+     * all async lookups. SQLite runs one statement per connection at a time, so access is serialized.
+     */
+    private static final class SharedStore {
+        private final Connection connection;
+        private final PreparedStatement select;
+        private final PreparedStatement upsert;
+
+        SharedStore(String url) throws SQLException {
+            connection = DriverManager.getConnection(url);
+            try {
+                try (Statement statement = connection.createStatement()) {
+                    // Wait for another server's write lock instead of failing right away.
+                    statement.execute("PRAGMA busy_timeout=2000");
+                    statement.execute("PRAGMA journal_mode=WAL");
+                    statement.execute("CREATE TABLE IF NOT EXISTS skins ("
+                            + "lookup TEXT PRIMARY KEY, textures TEXT, signature TEXT, uuid TEXT, stored_at INTEGER NOT NULL)");
+                }
+                select = connection.prepareStatement(
+                        "SELECT textures, signature, uuid, stored_at FROM skins WHERE lookup = ?");
+                upsert = connection.prepareStatement(
+                        "INSERT INTO skins (lookup, textures, signature, uuid, stored_at) VALUES (?, ?, ?, ?, ?) "
+                                + "ON CONFLICT(lookup) DO UPDATE SET textures = excluded.textures, "
+                                + "signature = excluded.signature, uuid = excluded.uuid, stored_at = excluded.stored_at");
+            } catch (SQLException ex) {
+                connection.close();
+                throw ex;
+            }
+        }
+
+        synchronized Entry read(String key) throws SQLException {
+            select.setString(1, key);
+            try (ResultSet row = select.executeQuery()) {
+                if (!row.next()) return null;
+                final String uuid = row.getString("uuid");
+                final SkinResolver.SkinData data = new SkinResolver.SkinData(
+                        row.getString("textures"),
+                        row.getString("signature"),
+                        uuid == null ? null : UUID.fromString(uuid));
+                return new Entry(data, row.getLong("stored_at"));
+            }
+        }
+
+        synchronized void write(String key, Entry entry) throws SQLException {
+            final SkinResolver.SkinData data = entry.data();
+            upsert.setString(1, key);
+            upsert.setString(2, data.texture == null ? null : data.texture.value());
+            upsert.setString(3, data.texture == null ? null : data.texture.signature());
+            upsert.setString(4, data.uuid == null ? null : data.uuid.toString());
+            upsert.setLong(5, entry.storedAt());
+            upsert.executeUpdate();
+        }
+
+        synchronized void close() {
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+                // Shutting down or switching stores; nothing left to do with it.
+            }
+        }
+    }
+}
@@ -1,89 +1,204 @@
 package com.lyttledev.lyttledisguise.commands.disquise;
 
+import com.destroystokyo.paper.profile.PlayerProfile;
+import com.destroystokyo.paper.profile.ProfileProperty;
 import com.lyttledev.lyttledisguise.LyttleDisguise;
+import com.lyttledev.lyttledisguise.types.Settings;
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.ProxySelector;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
 
 /**
  * Resolves skin information (textures/signature or UUID) for a target input.
- * Supports never-joined usernames using Ashcon/Mojang/PlayerDB and sessionserver.
+ * Online and known players are served from local profiles first; never-joined usernames
+ * use Ashcon/Mojang/PlayerDB and sessionserver.
  */
 final class SkinResolver {
 
     static final class SkinData {
-        final String textures;
-        final String signature;
+        // Shared with every other SkinData for the same skin; null when only the UUID is known.
+        final TextureStore.Texture texture;
         final UUID uuid;
 
         SkinData(String textures, String signature, UUID uuid) {
-            this.textures = textures;
-            this.signature = signature;
+            this.texture = TextureStore.intern(textures, signature);
             this.uuid = uuid;
         }
     }
 
     private static final Pattern UUID_HYPHENATED = Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
     private static final Pattern UUID_STRIPPED = Pattern.compile("^[0-9a-fA-F]{32}$");
+    private static final Pattern MINECRAFT_NAME = Pattern.compile("^[a-zA-Z0-9_]{3,16}$");
+
+    // Statuses that mean "this name/UUID does not exist" and are safe to remember.
+    private static final Set<Integer> MISSING_STATUSES = Set.of(204, 400, 404);
+    private static final int NEGATIVE_CACHE_PRUNE_SIZE = 1024;
+
+    private static final String USER_AGENT = "LyttleDisguise/1.0 (+https://github.com/Lyttle-Development)";
 
     private final LyttleDisguise plugin;
-    private final HttpClient http;
+
+    // Rebuilt when the transport settings change (e.g. after /lyttledisguise reload).
+    private volatile HttpClient http;
+    private volatile String httpSettings;
+
+    // Lookup URL (per provider and name) -> expiry (nanoTime) of a known "not found" answer.
+    private final Map<String, Long> knownMissing = new ConcurrentHashMap<>();
+
+    private final SkinCache cache;
+
+    // Inputs with a background refresh in flight, so a stale entry is refreshed only once.
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
 
     SkinResolver(@NotNull LyttleDisguise plugin) {
         this.plugin = plugin;
-        this.http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        this.cache = new SkinCache(plugin);
+    }
+
+    /**
+     * Closes the shared skin store and the HTTP client; lookups after this only use memory and the
+     * providers (on a new client) until they reopen.
+     */
+    void close() {
+        cache.close();
+        synchronized (this) {
+            if (http != null) {
+                http.close();
+                http = null;
+                httpSettings = null;
+            }
+        }
     }
 
     SkinData resolve(@NotNull String input) throws Exception {
-        // UUID literal
         final UUID parsed = parseUuidFlexible(input);
-        if (parsed != null) {
-            final SkinData viaSession = fetchSessionTextures(parsed);
-            if (viaSession != null) return viaSession;
-            return new SkinData(null, null, parsed);
+
+        // Local profiles first: players on (or known to) this server need no HTTP at all
+        final SkinData local = resolveLocal(input, parsed);
+        if (local != null) return local;
+
+        // Previously resolved, here or on another server sharing the cache.
+        // Expired entries are served as-is while a background refresh runs (stale-while-revalidate).
+        final SkinCache.Entry cached = cache.lookup(input);
+        if (cached != null) {
+            if (cache.isExpired(cached)) refreshInBackground(input);
+            return cached.data();
         }
 
-        // Ashcon by username (never-joined support)
-        final SkinData ashcon = fetchAshconTexturesByName(input);
-        if (ashcon != null) return ashcon;
+        final SkinData remote = resolveRemote(input, parsed);
+        if (remote != null) cache.put(input, remote);
+        return remote;
+    }
+
+    /**
+     * Resolves the configured hot names (event skins) in the background so the first disguise is instant.
+     */
+    void prewarm() {
+        final List<String> names = plugin.settings.prewarmNames;
+        if (names.isEmpty()) return;
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            int warmed = 0;
+            for (String name : names) {
+                try {
+                    if (cache.get(name) != null) continue;
+                    final SkinData data = resolveRemote(name, parseUuidFlexible(name));
+                    if (data != null) {
+                        cache.put(name, data);
+                        warmed++;
+                    }
+                } catch (Exception ex) {
+                    plugin.getLogger().warning("Could not pre-warm skin " + name + ": " + ex.getMessage());
+                }
+            }
+            plugin.getLogger().info("Pre-warmed " + warmed + "/" + names.size() + " skins.");
+        });
+    }
+
+    private void refreshInBackground(String input) {
+        final String key = input.toLowerCase(Locale.ROOT);
+        if (!refreshing.add(key)) return;
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                final SkinData fresh = resolveRemote(input, parseUuidFlexible(input));
+                if (fresh != null) cache.put(input, fresh);
+            } catch (Exception ignored) {
+                // Keep serving the stale entry; the next request retries the refresh.
+            } finally {
+                refreshing.remove(key);
+            }
+        });
+    }
+
+    private SkinData resolveRemote(String input, UUID parsed) throws Exception {
+        final long deadline = System.nanoTime()
+                + Duration.ofMillis(plugin.settings.resolveDeadlineMs).toNanos();
 
-        // Mojang -> UUID -> sessionserver
-        final UUID mojangUuid = fetchMojangUuidByName(input);
-        if (mojangUuid != null) {
-            final SkinData viaSession = fetchSessionTextures(mojangUuid);
+        // UUID literal
+        if (parsed != null) {
+            final SkinData viaSession = fetchSessionTextures(parsed, deadline);
             if (viaSession != null) return viaSession;
-            return new SkinData(null, null, mojangUuid);
+            return new SkinData(null, null, parsed);
         }
 
-        // PlayerDB -> UUID -> sessionserver
-        final UUID playerDbUuid = fetchPlayerDbUuidByName(input);
-        if (playerDbUuid != null) {
-            final SkinData viaSession = fetchSessionTextures(playerDbUuid);
-            if (viaSession != null) return viaSession;
-            return new SkinData(null, null, playerDbUuid);
+        // Remote providers only know names Mojang could have issued; skip them for anything else.
+        if (MINECRAFT_NAME.matcher(input).matches()) {
+            // Ashcon by username (never-joined support)
+            final SkinData ashcon = fetchAshconTexturesByName(input, deadline);
+            if (ashcon != null) return ashcon;
+
+            // Mojang -> UUID -> sessionserver
+            final UUID mojangUuid = fetchMojangUuidByName(input, deadline);
+            if (mojangUuid != null) {
+                final SkinData viaSession = fetchSessionTextures(mojangUuid, deadline);
+                if (viaSession != null) return viaSession;
+                return new SkinData(null, null, mojangUuid);
+            }
+
+            // PlayerDB -> UUID -> sessionserver
+            final UUID playerDbUuid = fetchPlayerDbUuidByName(input, deadline);
+            if (playerDbUuid != null) {
+                final SkinData viaSession = fetchSessionTextures(playerDbUuid, deadline);
+                if (viaSession != null) return viaSession;
+                return new SkinData(null, null, playerDbUuid);
+            }
         }
 
         // Online player
         final Player online = Bukkit.getPlayerExact(input);
         if (online != null) {
-            final SkinData viaSession = fetchSessionTextures(online.getUniqueId());
+            final SkinData viaSession = fetchSessionTextures(online.getUniqueId(), deadline);
             if (viaSession != null) return viaSession;
             return new SkinData(null, null, online.getUniqueId());
         }
 
-        // Known offline (has joined before)
-        final OfflinePlayer offline = Bukkit.getOfflinePlayer(input);
+        // Known offline (has joined before), from the local cache only to avoid a blocking profile lookup
+        final OfflinePlayer offline = Bukkit.getOfflinePlayerIfCached(input);
         if (offline != null && offline.hasPlayedBefore() && offline.getUniqueId() != null) {
-            final SkinData viaSession = fetchSessionTextures(offline.getUniqueId());
+            final SkinData viaSession = fetchSessionTextures(offline.getUniqueId(), deadline);
             if (viaSession != null) return viaSession;
             return new SkinData(null, null, offline.getUniqueId());
         }
@@ -91,6 +206,34 @@ final class SkinResolver {
         return null;
     }
 
+    // Signed textures from an online player's profile, or from Paper's cached profile of a known player.
+    private SkinData resolveLocal(String input, UUID uuid) {
+        final Player online = uuid != null ? Bukkit.getPlayer(uuid) : Bukkit.getPlayerExact(input);
+        if (online != null) {
+            // A disguised player's profile carries the disguise skin, so ask the providers for the real one.
+            if (plugin.disguises.get(online.getUniqueId()) != null) return null;
+            final SkinData data = fromProfile(online.getPlayerProfile(), online.getUniqueId());
+            if (data != null) return data;
+        }
+
+        final OfflinePlayer offline = uuid != null ? Bukkit.getOfflinePlayer(uuid) : Bukkit.getOfflinePlayerIfCached(input);
+        if (offline == null || offline.getUniqueId() == null || !offline.hasPlayedBefore()) return null;
+
+        final PlayerProfile profile = Bukkit.createProfile(offline.getUniqueId(), offline.getName());
+        if (!profile.completeFromCache()) return null;
+        return fromProfile(profile, offline.getUniqueId());
+    }
+
+    private SkinData fromProfile(PlayerProfile profile, UUID uuid) {
+        if (profile == null) return null;
+        for (ProfileProperty property : profile.getProperties()) {
+            if ("textures".equals(property.getName()) && property.isSigned()) {
+                return new SkinData(property.getValue(), property.getSignature(), uuid);
+            }
+        }
+        return null;
+    }
+
     private UUID parseUuidFlexible(String s) {
         if (s == null) return null;
         if (UUID_HYPHENATED.matcher(s).matches()) {
@@ -109,20 +252,114 @@ final class SkinResolver {
         return null;
     }
 
+    // Provider base URLs come from config.yml (e.g. to point at a local stand-in server).
+    private static String providerUrl(String url) {
+        return url.endsWith("/") ? url : url + "/";
+    }
+
+    private HttpClient client() {
+        final Settings current = plugin.settings;
+        final String version = current.httpVersion;
+        final int connectTimeout = current.httpConnectTimeoutMs;
+        final String proxy = current.httpProxy;
+        final String settings = version + "|" + connectTimeout + "|" + proxy;
+
+        HttpClient client = http;
+        if (client != null && settings.equals(httpSettings)) return client;
+
+        synchronized (this) {
+            if (http != null && settings.equals(httpSettings)) return http;
+
+            final HttpClient.Builder builder = HttpClient.newBuilder()
+                    .version("HTTP_1_1".equalsIgnoreCase(version) ? HttpClient.Version.HTTP_1_1 : HttpClient.Version.HTTP_2)
+                    .connectTimeout(Duration.ofMillis(connectTimeout))
+                    .followRedirects(HttpClient.Redirect.NORMAL);
+
+            // host:port, empty for a direct connection
+            final int colon = proxy.lastIndexOf(':');
+            if (colon > 0) {
+                try {
+                    final int port = Integer.parseInt(proxy.substring(colon + 1));
+                    builder.proxy(ProxySelector.of(InetSocketAddress.createUnresolved(proxy.substring(0, colon), port)));
+                } catch (NumberFormatException ex) {
+                    plugin.getLogger().warning("Ignoring invalid http_proxy: " + proxy);
+                }
+            }
+
+            // The old client finishes its in-flight requests, then releases its threads and connections.
+            if (http != null) http.shutdown();
+            client = builder.build();
+            http = client;
+            httpSettings = settings;
+            return client;
+        }
+    }
+
+    // GET with the provider timeout (capped by the overall deadline); body or null when not 200 or unreachable.
+    // Definite "not found" answers are remembered for a short while so repeated typos cost nothing.
+    private String get(String url, int timeoutMs, long deadline) throws Exception {
+        final String missKey = url.toLowerCase(Locale.ROOT);
+        final Long missingUntil = knownMissing.get(missKey);
+        if (missingUntil != null) {
+            if (missingUntil - System.nanoTime() > 0) return null;
+            knownMissing.remove(missKey, missingUntil);
+        }
+
+        final long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) throw new TimeoutException("Skin resolve deadline exceeded");
+        final Duration timeout = Duration.ofMillis(Math.min(
+                timeoutMs,
+                Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining))));
+
+        final HttpRequest.Builder req = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(timeout)
+                .header("User-Agent", USER_AGENT)
+                .GET();
+        if (plugin.settings.httpGzip) req.header("Accept-Encoding", "gzip");
+
+        final HttpResponse<InputStream> res;
+        try {
+            res = client().send(req.build(), HttpResponse.BodyHandlers.ofInputStream());
+        } catch (IOException ex) {
+            // Provider timed out or is unreachable: move on to the next one (the overall deadline still applies).
+            return null;
+        }
+        try (InputStream raw = res.body()) {
+            if (MISSING_STATUSES.contains(res.statusCode())) {
+                rememberMissing(missKey);
+                return null;
+            }
+            if (res.statusCode() != 200) return null;
+            final boolean compressed = res.headers().firstValue("Content-Encoding")
+                    .map(enc -> enc.equalsIgnoreCase("gzip"))
+                    .orElse(false);
+            try (InputStream in = compressed ? new GZIPInputStream(raw) : raw) {
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+    }
+
+    private void rememberMissing(String missKey) {
+        final int ttlSeconds = plugin.settings.negativeCacheSeconds;
+        if (ttlSeconds <= 0) return;
+
+        final long now = System.nanoTime();
+        if (knownMissing.size() >= NEGATIVE_CACHE_PRUNE_SIZE) {
+            knownMissing.values().removeIf(until -> until - now <= 0);
+        }
+        knownMissing.put(missKey, now + TimeUnit.SECONDS.toNanos(ttlSeconds));
+    }
+
     // sessionserver: UUID -> textures/signature
-    private SkinData fetchSessionTextures(UUID uuid) throws Exception {
+    private SkinData fetchSessionTextures(UUID uuid, long deadline) throws Exception {
         if (uuid == null) return null;
+        final Settings settings = plugin.settings;
         final String dashed = uuid.toString().replace("-", "");
-        final HttpRequest req = HttpRequest.newBuilder()
-                .uri(URI.create("https://sessionserver.mojang.com/session/minecraft/profile/" + dashed + "?unsigned=false"))
-                .timeout(Duration.ofSeconds(5))
-                .header("User-Agent", "LyttleDisguise/1.0 (+https://github.com/Lyttle-Development)")
-                .GET().build();
+        final String url = providerUrl(settings.sessionServerUrl) + dashed + "?unsigned=false";
+        final String body = get(url, settings.sessionServerTimeoutMs, deadline);
+        if (body == null) return null;
 
-        final HttpResponse<String> res = http.send(req, HttpResponse.BodyHandlers.ofString());
-        if (res.statusCode() != 200) return null;
-
-        final String body = res.body();
         final int texNameIdx = body.indexOf("\"name\":\"textures\"");
         if (texNameIdx == -1) return null;
 
@@ -145,19 +382,14 @@ final class SkinResolver {
     }
 
     // Ashcon API: username -> raw textures/signature
-    private SkinData fetchAshconTexturesByName(String username) throws Exception {
+    private SkinData fetchAshconTexturesByName(String username, long deadline) throws Exception {
         if (username == null || username.isBlank()) return null;
+        final Settings settings = plugin.settings;
 
-        final HttpRequest req = HttpRequest.newBuilder()
-                .uri(URI.create("https://api.ashcon.app/mojang/v2/user/" + username))
-                .timeout(Duration.ofSeconds(5))
-                .header("User-Agent", "LyttleDisguise/1.0 (+https://github.com/Lyttle-Development)")
-                .GET().build();
-
-        final HttpResponse<String> res = http.send(req, HttpResponse.BodyHandlers.ofString());
-        if (res.statusCode() != 200) return null;
+        final String url = providerUrl(settings.ashconUrl) + username;
+        final String body = get(url, settings.ashconTimeoutMs, deadline);
+        if (body == null) return null;
 
-        final String body = res.body();
         final int rawIdx = body.indexOf("\"raw\"");
         if (rawIdx == -1) return null;
 
@@ -187,19 +419,14 @@ final class SkinResolver {
     }
 
     // Mojang: username -> UUID (32hex)
-    private UUID fetchMojangUuidByName(String username) throws Exception {
+    private UUID fetchMojangUuidByName(String username, long deadline) throws Exception {
         if (username == null || username.isBlank()) return null;
+        final Settings settings = plugin.settings;
 
-        final HttpRequest req = HttpRequest.newBuilder()
-                .uri(URI.create("https://api.mojang.com/users/profiles/minecraft/" + username))
-                .timeout(Duration.ofSeconds(5))
-                .header("User-Agent", "LyttleDisguise/1.0 (+https://github.com/Lyttle-Development)")
-                .GET().build();
+        final String url = providerUrl(settings.mojangUrl) + username;
+        final String body = get(url, settings.mojangTimeoutMs, deadline);
+        if (body == null) return null;
 
-        final HttpResponse<String> res = http.send(req, HttpResponse.BodyHandlers.ofString());
-        if (res.statusCode() != 200) return null;
-
-        final String body = res.body();
         final int idIdx = body.indexOf("\"id\":\"");
         if (idIdx == -1) return null;
         final int start = idIdx + 6;
@@ -210,19 +437,14 @@ final class SkinResolver {
     }
 
     // PlayerDB: username -> UUID (raw_id or dashed id)
-    private UUID fetchPlayerDbUuidByName(String username) throws Exception {
+    private UUID fetchPlayerDbUuidByName(String username, long deadline) throws Exception {
         if (username == null || username.isBlank()) return null;
+        final Settings settings = plugin.settings;
 
-        final HttpRequest req = HttpRequest.newBuilder()
-                .uri(URI.create("https://playerdb.co/api/player/minecraft/" + username))
-                .timeout(Duration.ofSeconds(5))
-                .header("User-Agent", "LyttleDisguise/1.0 (+https://github.com/Lyttle-Development)")
-                .GET().build();
-
-        final HttpResponse<String> res = http.send(req, HttpResponse.BodyHandlers.ofString());
-        if (res.statusCode() != 200) return null;
+        final String url = providerUrl(settings.playerDbUrl) + username;
+        final String body = get(url, settings.playerDbTimeoutMs, deadline);
+        if (body == null) return null;
 
-        final String body = res.body();
         int idx = body.indexOf("\"raw_id\":\"");
         if (idx != -1) {
             final int s = idx + 10;
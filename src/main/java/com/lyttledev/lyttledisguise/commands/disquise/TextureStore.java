@@ -0,0 +1,68 @@
+package com.lyttledev.lyttledisguise.commands.disquise;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interning store for signed skin textures. A texture value is base64 JSON holding the profile, timestamp
+ * and the skin, cape and model it signs for; every name, cache entry and active disguise that resolved
+ * to the same value shares one value/signature pair (about 2 KB) instead of holding its own copy.
+ * Entries are keyed by the whole value, so a re-signed or changed texture is always kept as its own pair.
+ * Entries are weakly held and dropped once no SkinData references them anymore.
+ */
+final class TextureStore {
+
+    record Texture(String value, String signature) {}
+
+    // Weak value that remembers its key, so cleared entries can be removed from the map.
+    private static final class Ref extends WeakReference<Texture> {
+        final String value;
+
+        Ref(String value, Texture texture, ReferenceQueue<Texture> queue) {
+            super(texture, queue);
+            this.value = value;
+        }
+    }
+
+    private static final Map<String, Ref> TEXTURES = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<Texture> CLEARED = new ReferenceQueue<>();
+
+    private TextureStore() {}
+
+    /**
+     * Returns the shared texture for this value, registering the given pair if none is held yet.
+     *
+     * @return {@code null} when value or signature is missing
+     */
+    static Texture intern(String value, String signature) {
+        if (value == null || signature == null) return null;
+        expungeCleared();
+
+        // Mojang signs the exact value, so any signature held for an identical value is valid for it.
+        final Texture[] shared = new Texture[1];
+        TEXTURES.compute(value, (key, ref) -> {
+            final Texture held = ref == null ? null : ref.get();
+            if (held != null) {
+                shared[0] = held;
+                return ref;
+            }
+            shared[0] = new Texture(key, signature);
+            return new Ref(key, shared[0], CLEARED);
+        });
+        return shared[0];
+    }
+
+    static int size() {
+        expungeCleared();
+        return TEXTURES.size();
+    }
+
+    private static void expungeCleared() {
+        Ref ref;
+        while ((ref = (Ref) CLEARED.poll()) != null) {
+            TEXTURES.remove(ref.value, ref);
+        }
+    }
+}
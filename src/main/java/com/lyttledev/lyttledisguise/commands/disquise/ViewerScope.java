@@ -0,0 +1,167 @@
+package com.lyttledev.lyttledisguise.commands.disquise;
+
+import com.lyttledev.lyttledisguise.LyttleDisguise;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Limits disguise refresh packets to viewers near the disguised player.
+ * When enabled, viewers in the same world but outside the radius are hidden from the target before a
+ * disguise change, so the provider's entity and player-info refresh only reaches nearby players. Further
+ * changes while they are hidden cost them nothing; once they come into range (or change worlds) they are
+ * shown the target again, with the disguise it has by then. Viewers in other worlds are left alone.
+ * The range check only runs while some viewer is hidden. Main thread only.
+ */
+final class ViewerScope implements Listener {
+
+    private final LyttleDisguise plugin;
+
+    // target -> viewers we hid from that target and still have to show again
+    private final Map<UUID, Set<UUID>> deferred = new HashMap<>();
+
+    // Range check, scheduled only while deferred is non-empty.
+    private BukkitTask checkTask;
+    private long checkPeriod;
+
+    ViewerScope(@NotNull LyttleDisguise plugin) {
+        this.plugin = plugin;
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+    }
+
+    /**
+     * Hides the target from every same-world viewer outside the configured radius, before its disguise changes.
+     */
+    void hideDistantViewers(@NotNull Player target) {
+        if (!plugin.settings.viewerScopeEnabled) return;
+
+        final double radius = radius();
+        final Location origin = target.getLocation();
+        Set<UUID> hidden = deferred.get(target.getUniqueId());
+
+        for (Player viewer : target.getWorld().getPlayers()) {
+            if (viewer == target || inRange(viewer, origin, radius)) continue;
+            // Already hidden by us, or by another plugin (vanish), which we leave alone.
+            if (!viewer.canSee(target)) continue;
+
+            viewer.hidePlayer(plugin, target);
+            if (hidden == null) {
+                hidden = new HashSet<>();
+                deferred.put(target.getUniqueId(), hidden);
+            }
+            hidden.add(viewer.getUniqueId());
+        }
+
+        if (!deferred.isEmpty()) startChecking();
+    }
+
+    /**
+     * Shows the target to every viewer it is still hidden from, e.g. after a reset.
+     */
+    void showAll(@NotNull Player target) {
+        final Set<UUID> viewers = deferred.remove(target.getUniqueId());
+        if (viewers != null) show(target, viewers);
+        if (deferred.isEmpty()) stopChecking();
+    }
+
+    /**
+     * Shows every hidden target again; called on plugin disable so nobody stays invisible.
+     */
+    void close() {
+        for (Map.Entry<UUID, Set<UUID>> entry : deferred.entrySet()) {
+            final Player target = Bukkit.getPlayer(entry.getKey());
+            if (target != null) show(target, entry.getValue());
+        }
+        deferred.clear();
+        stopChecking();
+    }
+
+    private void showViewersInRange() {
+        // Follow a changed viewer_scope_check_ticks after a reload.
+        if (Math.max(1, plugin.settings.viewerScopeCheckTicks) != checkPeriod) {
+            stopChecking();
+            startChecking();
+        }
+
+        final boolean enabled = plugin.settings.viewerScopeEnabled;
+        final double radius = radius();
+        final Iterator<Map.Entry<UUID, Set<UUID>>> targets = deferred.entrySet().iterator();
+        while (targets.hasNext()) {
+            final Map.Entry<UUID, Set<UUID>> entry = targets.next();
+            final Player target = Bukkit.getPlayer(entry.getKey());
+            if (target == null) {
+                targets.remove();
+                continue;
+            }
+
+            final Location origin = target.getLocation();
+            final Iterator<UUID> viewers = entry.getValue().iterator();
+            while (viewers.hasNext()) {
+                final Player viewer = Bukkit.getPlayer(viewers.next());
+                if (viewer == null) {
+                    viewers.remove();
+                } else if (!enabled || viewer.getWorld() != origin.getWorld() || inRange(viewer, origin, radius)) {
+                    viewer.showPlayer(plugin, target);
+                    viewers.remove();
+                }
+            }
+            if (entry.getValue().isEmpty()) targets.remove();
+        }
+
+        if (deferred.isEmpty()) stopChecking();
+    }
+
+    private void startChecking() {
+        if (checkTask != null) return;
+        checkPeriod = Math.max(1, plugin.settings.viewerScopeCheckTicks);
+        checkTask = Bukkit.getScheduler().runTaskTimer(plugin, this::showViewersInRange, checkPeriod, checkPeriod);
+    }
+
+    private void stopChecking() {
+        if (checkTask == null) return;
+        checkTask.cancel();
+        checkTask = null;
+    }
+
+    private void show(Player target, Set<UUID> viewers) {
+        for (UUID id : viewers) {
+            final Player viewer = Bukkit.getPlayer(id);
+            if (viewer != null) viewer.showPlayer(plugin, target);
+        }
+    }
+
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        final Player quitting = event.getPlayer();
+
+        // Hidden state is kept per UUID, so undo it or the target stays hidden after rejoining.
+        final Set<UUID> viewers = deferred.remove(quitting.getUniqueId());
+        if (viewers != null) show(quitting, viewers);
+        deferred.values().forEach(hidden -> hidden.remove(quitting.getUniqueId()));
+        deferred.values().removeIf(Set::isEmpty);
+        if (deferred.isEmpty()) stopChecking();
+    }
+
+    // Configured radius in blocks, or the server view distance when 0.
+    private double radius() {
+        final int configured = plugin.settings.viewerScopeRadius;
+        return configured > 0 ? configured : Bukkit.getViewDistance() * 16.0;
+    }
+
+    private static boolean inRange(Player viewer, Location origin, double radius) {
+        final Location at = viewer.getLocation();
+        return at.getWorld() == origin.getWorld() && at.distanceSquared(origin) <= radius * radius;
+    }
+}
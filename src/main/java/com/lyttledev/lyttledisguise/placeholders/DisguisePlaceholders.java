@@ -0,0 +1,65 @@
+package com.lyttledev.lyttledisguise.placeholders;
+
+import com.lyttledev.lyttledisguise.LyttleDisguise;
+import com.lyttledev.lyttledisguise.commands.disquise.DisguiseIndex;
+import me.clip.placeholderapi.expansion.PlaceholderExpansion;
+import org.bukkit.OfflinePlayer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * PlaceholderAPI expansion:
+ * - %lyttledisguise_is_disguised%  true/false
+ * - %lyttledisguise_name%          disguise name, or the player's own name when not disguised as a player
+ * - %lyttledisguise_skin%          skin the disguise was taken from, empty when none
+ * - %lyttledisguise_entity%        entity type, empty when not disguised as an entity
+ * Served from the DisguiseIndex only, so lookups are O(1) and safe off the main thread.
+ */
+public final class DisguisePlaceholders extends PlaceholderExpansion {
+
+    private final LyttleDisguise plugin;
+
+    public DisguisePlaceholders(@NotNull LyttleDisguise plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public @NotNull String getIdentifier() {
+        return "lyttledisguise";
+    }
+
+    @Override
+    public @NotNull String getAuthor() {
+        return String.join(", ", plugin.getDescription().getAuthors());
+    }
+
+    @Override
+    public @NotNull String getVersion() {
+        return plugin.getDescription().getVersion();
+    }
+
+    // Keep the expansion registered across /papi reload; it is owned by this plugin.
+    @Override
+    public boolean persist() {
+        return true;
+    }
+
+    @Override
+    public @Nullable String onRequest(OfflinePlayer player, @NotNull String params) {
+        if (player == null) return "";
+        final DisguiseIndex.State state = plugin.disguises.get(player.getUniqueId());
+
+        return switch (params) {
+            case "is_disguised" -> state != null ? "true" : "false";
+            case "name" -> state != null && state.name() != null ? state.name() : nameOf(player);
+            case "skin" -> state != null && state.skin() != null ? state.skin() : "";
+            case "entity" -> state != null && state.entity() != null ? state.entity().name() : "";
+            default -> null;
+        };
+    }
+
+    private static String nameOf(OfflinePlayer player) {
+        final String name = player.getName();
+        return name != null ? name : "";
+    }
+}
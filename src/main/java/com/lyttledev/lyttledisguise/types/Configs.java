@@ -2,6 +2,15 @@ package com.lyttledev.lyttledisguise.types;
 
 import com.lyttledev.lyttledisguise.LyttleDisguise;
 import com.lyttledev.lyttleutils.types.YamlConfig;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 public class Configs {
     private final LyttleDisguise plugin;
@@ -26,11 +35,57 @@ public class Configs {
         defaultMessages = new YamlConfig(plugin, "#defaults/messages.yml");
     }
 
-    public void reload() {
-        general.reload();
-        messages.reload();
+    /**
+     * Every message key the plugin ships with, read from the bundled messages.yml.
+     */
+    public Set<String> messageKeys() {
+        try (InputStream in = plugin.getResource("messages.yml")) {
+            if (in == null) return Set.of();
+            return YamlConfiguration.loadConfiguration(new InputStreamReader(in, StandardCharsets.UTF_8)).getKeys(false);
+        } catch (IOException ex) {
+            return Set.of();
+        }
+    }
+
+    /**
+     * Reads a config.yml value, falling back to the bundled default and then to {@code fallback}.
+     */
+    public String getString(String path, String fallback) {
+        Object value = general.get(path);
+        if (value == null) value = defaultGeneral.get(path);
+        return value == null ? fallback : value.toString();
+    }
+
+    public int getInt(String path, int fallback) {
+        try {
+            return Integer.parseInt(getString(path, String.valueOf(fallback)).trim());
+        } catch (NumberFormatException ex) {
+            return fallback;
+        }
+    }
+
+    public double getDouble(String path, double fallback) {
+        try {
+            return Double.parseDouble(getString(path, String.valueOf(fallback)).trim());
+        } catch (NumberFormatException ex) {
+            return fallback;
+        }
+    }
+
+    public boolean getBoolean(String path, boolean fallback) {
+        return Boolean.parseBoolean(getString(path, String.valueOf(fallback)).trim());
+    }
+
+    public List<String> getStringList(String path) {
+        Object value = general.get(path);
+        if (value == null) value = defaultGeneral.get(path);
+        if (!(value instanceof List<?> list)) return List.of();
 
-        plugin.reloadConfig();
+        final List<String> out = new ArrayList<>(list.size());
+        for (Object item : list) {
+            if (item != null) out.add(item.toString());
+        }
+        return out;
     }
 
     private String getConfigPath(String path) {
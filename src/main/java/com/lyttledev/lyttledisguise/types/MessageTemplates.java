@@ -0,0 +1,182 @@
+package com.lyttledev.lyttledisguise.types;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextReplacementConfig;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Pre-parsed messages.yml entries for the hot feedback paths.
+ * Every key is converted (legacy codes + MiniMessage + prefix) once and kept for the lifetime of this snapshot;
+ * sending only fills the typed placeholder slots of the already parsed component.
+ */
+public final class MessageTemplates {
+
+    /**
+     * Placeholders that may appear in messages.yml as {@code <SLOT_NAME>}.
+     */
+    public enum Slot {
+        TARGET_PLAYER, TARGET, NEW_NAME, SKIN_TARGET, RESULT, DURATION,
+        ENTITY_TYPE, ENTITY, ERROR, CANDIDATE, BASE, ATTEMPTS, LABEL, MODE, NAME, COUNT, TOTAL
+    }
+
+    /**
+     * Placeholder values, built once per outcome and shared between the target and initiator messages.
+     */
+    public static final class Values {
+        private final EnumMap<Slot, String> values = new EnumMap<>(Slot.class);
+
+        public Values with(@NotNull Slot slot, String value) {
+            values.put(slot, value == null ? "" : value);
+            return this;
+        }
+
+        String get(Slot slot) {
+            return values.get(slot);
+        }
+    }
+
+    private static final Values NO_VALUES = new Values();
+
+    // Slots are swapped for private-use markers before parsing, so MiniMessage leaves them untouched.
+    private static final char MARK_OPEN = '\uE000';
+    private static final char MARK_CLOSE = '\uE001';
+    private static final Pattern SLOT_SOURCE = Pattern.compile("<([A-Z_]+)>");
+    private static final Pattern SLOT_MARKER = Pattern.compile(MARK_OPEN + "([A-Z_]+)" + MARK_CLOSE);
+    private static final Pattern LEGACY_CODE = Pattern.compile("[&§]([0-9a-fk-orA-FK-OR])");
+
+    private final Configs config;
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
+    private final String prefix;
+
+    /**
+     * Templates for the given (freshly loaded) configs; a reload builds a new instance and swaps it in.
+     * Every known key is compiled here, so the (off-thread) reload does all MiniMessage parsing up front.
+     */
+    public MessageTemplates(@NotNull Configs config) {
+        this.config = config;
+        final String raw = rawMessage("prefix");
+        this.prefix = raw == null ? "" : raw;
+
+        for (String key : config.messageKeys()) {
+            final String message = rawMessage(key);
+            if (message != null) templates.put(key, compile(prefix + message));
+        }
+    }
+
+    public void send(@NotNull CommandSender target, @NotNull String key) {
+        send(target, key, NO_VALUES);
+    }
+
+    public void send(@NotNull CommandSender target, @NotNull String key, @NotNull Values values) {
+        target.sendMessage(render(key, values));
+    }
+
+    public void sendActionBar(@NotNull Player target, @NotNull String key, @NotNull Values values) {
+        target.sendActionBar(render(key, values));
+    }
+
+    public Component render(@NotNull String key, @NotNull Values values) {
+        Template template = template(key);
+        if (template == null) template = template("message_not_found");
+        if (template == null) return Component.text(key);
+        return template.render(values);
+    }
+
+    private Template template(String key) {
+        final Template cached = templates.get(key);
+        if (cached != null) return cached;
+
+        // Keys that are not in the bundled messages.yml are compiled on first use.
+        final String raw = rawMessage(key);
+        if (raw == null) return null;
+        final Template compiled = compile(prefix + raw);
+        templates.put(key, compiled);
+        return compiled;
+    }
+
+    private String rawMessage(String key) {
+        final Object value = config.messages.get(key);
+        return value == null ? null : value.toString();
+    }
+
+    private static Template compile(String raw) {
+        boolean hasSlots = false;
+        final Matcher slotMatcher = SLOT_SOURCE.matcher(raw);
+        final StringBuilder marked = new StringBuilder(raw.length());
+        while (slotMatcher.find()) {
+            final String name = slotMatcher.group(1);
+            if (isSlot(name)) {
+                hasSlots = true;
+                slotMatcher.appendReplacement(marked, Matcher.quoteReplacement(MARK_OPEN + name + MARK_CLOSE));
+            }
+        }
+        slotMatcher.appendTail(marked);
+
+        final Component component = MiniMessage.miniMessage().deserialize(legacyToMini(marked.toString()));
+        return new Template(component, hasSlots);
+    }
+
+    private static boolean isSlot(String name) {
+        for (Slot slot : Slot.values()) {
+            if (slot.name().equals(name)) return true;
+        }
+        return false;
+    }
+
+    // Legacy color codes reset formatting, mirror that with <reset> before the color tag.
+    private static String legacyToMini(String s) {
+        final Matcher m = LEGACY_CODE.matcher(s);
+        final StringBuilder out = new StringBuilder(s.length() + 16);
+        while (m.find()) {
+            final String tag = switch (Character.toLowerCase(m.group(1).charAt(0))) {
+                case '0' -> "<reset><black>";
+                case '1' -> "<reset><dark_blue>";
+                case '2' -> "<reset><dark_green>";
+                case '3' -> "<reset><dark_aqua>";
+                case '4' -> "<reset><dark_red>";
+                case '5' -> "<reset><dark_purple>";
+                case '6' -> "<reset><gold>";
+                case '7' -> "<reset><gray>";
+                case '8' -> "<reset><dark_gray>";
+                case '9' -> "<reset><blue>";
+                case 'a' -> "<reset><green>";
+                case 'b' -> "<reset><aqua>";
+                case 'c' -> "<reset><red>";
+                case 'd' -> "<reset><light_purple>";
+                case 'e' -> "<reset><yellow>";
+                case 'f' -> "<reset><white>";
+                case 'k' -> "<obfuscated>";
+                case 'l' -> "<bold>";
+                case 'm' -> "<strikethrough>";
+                case 'n' -> "<underlined>";
+                case 'o' -> "<italic>";
+                default -> "<reset>";
+            };
+            m.appendReplacement(out, Matcher.quoteReplacement(tag));
+        }
+        m.appendTail(out);
+        return out.toString();
+    }
+
+    private record Template(Component component, boolean hasSlots) {
+        Component render(Values values) {
+            if (!hasSlots) return component;
+            return component.replaceText(TextReplacementConfig.builder()
+                    .match(SLOT_MARKER)
+                    .replacement((match, builder) -> {
+                        final String value = values.get(Slot.valueOf(match.group(1)));
+                        return builder.content(value == null ? "" : value);
+                    })
+                    .build());
+        }
+    }
+}
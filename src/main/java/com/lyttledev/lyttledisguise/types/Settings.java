@@ -0,0 +1,107 @@
+package com.lyttledev.lyttledisguise.types;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Immutable snapshot of config.yml. Built off the main thread from freshly loaded {@link Configs}
+ * and swapped in as a whole, so hot paths read plain final fields instead of YAML lookups.
+ * Components read the current snapshot on use, so a reload applies right away, except for
+ * {@code audit_buffer_size} and {@code skin_prewarm_names}, which are only read on startup.
+ */
+public final class Settings {
+
+    // Feedback
+    public final String feedbackVerbosity;
+
+    // Skin providers
+    public final String ashconUrl;
+    public final String mojangUrl;
+    public final String playerDbUrl;
+    public final String sessionServerUrl;
+
+    // HTTP transport
+    public final String httpVersion;
+    public final int httpConnectTimeoutMs;
+    public final int ashconTimeoutMs;
+    public final int mojangTimeoutMs;
+    public final int playerDbTimeoutMs;
+    public final int sessionServerTimeoutMs;
+    public final int resolveDeadlineMs;
+    public final boolean httpGzip;
+    public final String httpProxy;
+
+    // Skin caching
+    public final int negativeCacheSeconds;
+    public final int cacheTtlSeconds;
+    public final int cacheStaleSeconds;
+    public final String cacheSharedDirectory;
+    public final List<String> prewarmNames;
+
+    // Rate limiting
+    public final boolean rateLimitEnabled;
+    public final List<String> rateLimitTiers;
+    public final int rateLimitGlobalBurst;
+    public final double rateLimitGlobalPerSecond;
+
+    // Viewer scope
+    public final boolean viewerScopeEnabled;
+    public final int viewerScopeRadius;
+    public final int viewerScopeCheckTicks;
+
+    // Audit log
+    public final boolean auditEnabled;
+    public final int auditBufferSize;
+    public final int auditFlushIntervalMs;
+    public final int auditMaxFileMb;
+
+    private Settings(Configs config) {
+        feedbackVerbosity = config.getString("feedback_verbosity", "full");
+
+        ashconUrl = url(config, "skin_provider_ashcon_url", "https://api.ashcon.app/mojang/v2/user/");
+        mojangUrl = url(config, "skin_provider_mojang_url", "https://api.mojang.com/users/profiles/minecraft/");
+        playerDbUrl = url(config, "skin_provider_playerdb_url", "https://playerdb.co/api/player/minecraft/");
+        sessionServerUrl = url(config, "skin_provider_sessionserver_url", "https://sessionserver.mojang.com/session/minecraft/profile/");
+
+        httpVersion = config.getString("http_version", "HTTP_2");
+        httpConnectTimeoutMs = config.getInt("http_connect_timeout_ms", 5000);
+        ashconTimeoutMs = config.getInt("http_timeout_ashcon_ms", 5000);
+        mojangTimeoutMs = config.getInt("http_timeout_mojang_ms", 5000);
+        playerDbTimeoutMs = config.getInt("http_timeout_playerdb_ms", 5000);
+        sessionServerTimeoutMs = config.getInt("http_timeout_sessionserver_ms", 5000);
+        resolveDeadlineMs = config.getInt("skin_resolve_deadline_ms", 10000);
+        httpGzip = config.getBoolean("http_gzip", true);
+        httpProxy = config.getString("http_proxy", "").trim();
+
+        negativeCacheSeconds = config.getInt("skin_negative_cache_seconds", 60);
+        cacheTtlSeconds = config.getInt("skin_cache_ttl_seconds", 21600);
+        cacheStaleSeconds = config.getInt("skin_cache_stale_seconds", 604800);
+        cacheSharedDirectory = config.getString("skin_cache_shared_directory", "").trim();
+        prewarmNames = List.copyOf(config.getStringList("skin_prewarm_names"));
+
+        rateLimitEnabled = config.getBoolean("rate_limit_enabled", true);
+        rateLimitTiers = List.copyOf(config.getStringList("rate_limit_tiers"));
+        rateLimitGlobalBurst = config.getInt("rate_limit_global_burst", 20);
+        rateLimitGlobalPerSecond = config.getDouble("rate_limit_global_per_second", 5);
+
+        viewerScopeEnabled = config.getBoolean("viewer_scope_enabled", false);
+        viewerScopeRadius = config.getInt("viewer_scope_radius", 0);
+        viewerScopeCheckTicks = config.getInt("viewer_scope_check_ticks", 20);
+
+        auditEnabled = config.getBoolean("audit_enabled", true);
+        auditBufferSize = config.getInt("audit_buffer_size", 8192);
+        auditFlushIntervalMs = config.getInt("audit_flush_interval_ms", 1000);
+        auditMaxFileMb = config.getInt("audit_max_file_mb", 16);
+    }
+
+    public static Settings from(@NotNull Configs config) {
+        return new Settings(config);
+    }
+
+    // A blank provider URL would build relative request URIs, so it falls back to the default.
+    private static String url(Configs config, String path, String fallback) {
+        final String value = config.getString(path, fallback).trim();
+        return value.isEmpty() ? fallback : value;
+    }
+}
@@ -0,0 +1,181 @@
+package com.lyttledev.lyttledisguise.audit;
+
+import com.lyttledev.lyttledisguise.LyttleDisguise;
+import com.lyttledev.lyttledisguise.commands.disquise.TestPlugin;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuditLogTest {
+
+    @TempDir
+    File dataFolder;
+
+    private AuditLog audit(Object... overrides) {
+        final Map<String, Object> config = new HashMap<>();
+        config.put("audit_enabled", true);
+        for (int i = 0; i < overrides.length; i += 2) {
+            config.put((String) overrides[i], overrides[i + 1]);
+        }
+        final LyttleDisguise plugin = TestPlugin.create(config);
+        when(plugin.getDataFolder()).thenReturn(dataFolder);
+        return new AuditLog(plugin);
+    }
+
+    private static Player player(String name) {
+        final Player player = mock(Player.class);
+        when(player.getName()).thenReturn(name);
+        when(player.getUniqueId()).thenReturn(UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)));
+        return player;
+    }
+
+    private File auditFile(String suffix) {
+        return new File(new File(dataFolder, "audit"), "audit-" + LocalDate.now(ZoneId.systemDefault()) + suffix + ".log.gz");
+    }
+
+    // Every line of every audit file, read back the way gunzip would (appended gzip members included).
+    private List<String> readLines() throws IOException {
+        final File[] files = new File(dataFolder, "audit").listFiles((dir, name) -> name.endsWith(".log.gz"));
+        final List<String> lines = new ArrayList<>();
+        if (files == null) return lines;
+        Arrays.sort(files);
+        for (File file : files) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(new FileInputStream(file)), StandardCharsets.UTF_8))) {
+                reader.lines().forEach(lines::add);
+            }
+        }
+        return lines;
+    }
+
+    private static String detail(String line) {
+        return line.split("\t")[4];
+    }
+
+    @Test
+    void concurrentProducersLoseAndDuplicateNothing() throws Exception {
+        final int producers = 8;
+        final int perProducer = 1000;
+        // Room for everything, so nothing may be dropped even if the writer falls behind.
+        final AuditLog audit = audit("audit_buffer_size", producers * perProducer, "audit_flush_interval_ms", 50);
+        final Player target = player("Target");
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            final int producer = p;
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    audit.record(AuditLog.Action.APPLY, "producer-" + producer, target, producer + ":" + i, "SUCCESS", 1);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) thread.join();
+        audit.close();
+
+        final List<String> lines = readLines();
+        final Set<String> details = new HashSet<>();
+        for (String line : lines) {
+            assertTrue(details.add(detail(line)), "duplicate event " + line);
+        }
+        assertEquals(producers * perProducer, lines.size());
+        for (int p = 0; p < producers; p++) {
+            for (int i = 0; i < perProducer; i++) {
+                assertTrue(details.contains(p + ":" + i), "lost event " + p + ":" + i);
+            }
+        }
+    }
+
+    @Test
+    void fullBufferDropsAndCountsTheRest() throws Exception {
+        // 128 is already a power of two, so the ring has exactly 128 slots; the long interval keeps
+        // the writer parked while we fill it.
+        final AuditLog audit = audit("audit_buffer_size", 128, "audit_flush_interval_ms", 60_000);
+        final Player target = player("Target");
+        Thread.sleep(200); // let the writer finish its first (empty) drain and park
+
+        for (int i = 0; i < 128 + 7; i++) {
+            audit.record(AuditLog.Action.RESET, "api", target, "event-" + i, "SUCCESS", 0);
+        }
+        audit.close();
+
+        final List<String> lines = readLines();
+        final List<String> dropped = lines.stream().filter(line -> line.contains("\tDROPPED\t")).toList();
+        assertEquals(1, dropped.size(), "one summary line for the batch");
+        assertTrue(dropped.get(0).endsWith("\tDROPPED\t7 events (audit buffer full)"), dropped.get(0));
+        assertEquals(128, lines.size() - dropped.size());
+        // The oldest events are kept; the overflow is what gets dropped.
+        assertEquals("event-0", detail(lines.get(0)));
+        assertEquals("event-127", detail(lines.get(127)));
+    }
+
+    @Test
+    void rotatesToNumberedFileOnceTheSizeLimitIsReached() throws Exception {
+        final int events = 1000;
+        final AuditLog audit = audit("audit_buffer_size", 2048, "audit_flush_interval_ms", 50, "audit_max_file_mb", 1);
+        final Player target = player("Target");
+
+        // Random details barely compress, so ~3 MB of gzip output spans several 256-event batches.
+        final Random random = new Random(7);
+        final byte[] noise = new byte[3000];
+        for (int i = 0; i < events; i++) {
+            random.nextBytes(noise);
+            audit.record(AuditLog.Action.APPLY, "api", target,
+                    i + ":" + Base64.getEncoder().encodeToString(noise), "SUCCESS", 0);
+        }
+        audit.close();
+
+        assertTrue(auditFile("").length() >= 1024 * 1024, "first file filled up to the limit");
+        assertTrue(auditFile("-1").exists(), "continued in the -1 file");
+
+        final List<String> lines = readLines();
+        assertEquals(events, lines.size());
+        final Set<String> ids = new HashSet<>();
+        for (String line : lines) ids.add(detail(line).substring(0, detail(line).indexOf(':')));
+        assertEquals(events, ids.size());
+    }
+
+    @Test
+    void disabledAuditWritesNothing() {
+        final AuditLog audit = audit("audit_enabled", false);
+        audit.record(AuditLog.Action.RESET, "api", player("Target"), "-", "SUCCESS", 0);
+        audit.close();
+
+        assertFalse(new File(dataFolder, "audit").exists(), "no audit folder without events");
+    }
+}
@@ -0,0 +1,266 @@
+package com.lyttledev.lyttledisguise.commands.disquise;
+
+import com.lyttledev.lyttledisguise.LyttleDisguise;
+import com.lyttledev.lyttledisguise.audit.AuditLog;
+import com.lyttledev.lyttledisguise.commands.disquise.FakeSkinApi.Provider;
+import com.lyttledev.lyttledisguise.types.MessageTemplates;
+import dev.iiahmed.disguise.Disguise;
+import dev.iiahmed.disguise.DisguiseProvider;
+import dev.iiahmed.disguise.DisguiseResponse;
+import dev.iiahmed.disguise.UndisguiseResponse;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Load generator for event scenarios: hundreds of players running /disguise within a short window.
+ * Drives {@link DisguiseService} the way {@code DisguiseCommand} does, on a simulated 20 TPS main thread,
+ * against a mocked {@link DisguiseProvider} and the local skin API stand-in. Names follow a Zipf
+ * distribution (a few popular event skins, a long tail of others), so duplicate names cause the same
+ * collision retries and cache hits a real event does.
+ * <p>
+ * Run with {@code ./gradlew loadTest}, optionally with {@code -Ploadtest.players=500 -Ploadtest.seconds=60}.
+ */
+@Tag("load")
+class DisguiseLoadTest {
+
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    // Rough cost of the provider's packet work per (un)disguise on a busy server.
+    private static final long PROVIDER_COST_NANOS = TimeUnit.MICROSECONDS.toNanos(150);
+    private static final List<String> POPULAR = List.of(
+            "Notch", "jeb_", "Dinnerbone", "Grumm", "Technoblade", "Dream", "Herobrine", "Steve", "Alex", "xQc");
+    private static final EntityType[] ENTITIES = {
+            EntityType.CHICKEN, EntityType.CHICKEN, EntityType.ZOMBIE, EntityType.COW, EntityType.CREEPER, EntityType.SHEEP};
+
+    @Test
+    void hundredsOfPlayersDisguiseWithinTheWindow() throws Exception {
+        final int playerCount = Integer.getInteger("loadtest.players", 300);
+        final int seconds = Integer.getInteger("loadtest.seconds", 15);
+        final Random random = new Random(Long.getLong("loadtest.seed", 42L));
+
+        final SimulatedScheduler scheduler = TestBukkit.install();
+        try (FakeSkinApi api = new FakeSkinApi()) {
+            api.synthesizeUnknownPlayers(true);
+            api.latency(Provider.ASHCON, 80);
+            api.latency(Provider.MOJANG, 60);
+            api.latency(Provider.SESSION, 60);
+
+            final LyttleDisguise plugin = TestPlugin.create(api.config());
+            final AtomicInteger completed = new AtomicInteger();
+            plugin.templates = mock(MessageTemplates.class);
+            plugin.metrics = new DisguiseMetrics();
+            plugin.audit = mock(AuditLog.class);
+            plugin.disguises = new DisguiseIndex(plugin);
+            // Every operation ends in exactly one audit record.
+            doAnswer(inv -> completed.incrementAndGet()).when(plugin.audit)
+                    .record(any(AuditLog.Action.class), any(Player.class), any(Player.class), any(), any(), anyLong());
+
+            final SimulatedProvider simulated = new SimulatedProvider();
+            final DisguiseService service = new DisguiseService(plugin, simulated.mock, new SkinResolver(plugin), plugin.metrics);
+            final Zipf names = new Zipf(400, 1.1);
+
+            // Plan: every player runs one command at a random moment in the window, a third of them a second one later.
+            final int windowTicks = seconds * 20;
+            final Map<Integer, List<Runnable>> plan = new HashMap<>();
+            int issued = 0;
+            for (int i = 0; i < playerCount; i++) {
+                final Player player = player("Player_" + i);
+                final int first = random.nextInt(windowTicks);
+                plan.computeIfAbsent(first, t -> new ArrayList<>()).add(command(service, simulated, player, names, random));
+                issued++;
+                if (random.nextInt(3) == 0) {
+                    final int second = first + 20 + random.nextInt(Math.max(1, windowTicks - first));
+                    plan.computeIfAbsent(second, t -> new ArrayList<>()).add(command(service, simulated, player, names, random));
+                    issued++;
+                }
+            }
+            final int lastTick = plan.keySet().stream().max(Integer::compare).orElse(0);
+
+            final long start = System.nanoTime();
+            long nextTick = start;
+            int peakQueue = 0;
+            for (int tick = 0; tick <= lastTick || completed.get() < issued; tick++) {
+                if (tick > lastTick + 20 * 30) break; // 30s grace for stragglers
+                for (Runnable command : plan.getOrDefault(tick, List.of())) {
+                    Bukkit.getScheduler().runTask(plugin, command);
+                }
+                peakQueue = Math.max(peakQueue, scheduler.queuedMainTasks());
+                scheduler.tick();
+                nextTick += TICK_NANOS;
+                LockSupport.parkNanos(nextTick - System.nanoTime());
+            }
+            final double elapsed = (System.nanoTime() - start) / 1e9;
+
+            final long[] ticks = scheduler.tickNanos().stream().mapToLong(Long::longValue).sorted().toArray();
+            System.out.printf("Load test: %d players, %d commands over %ds, finished after %.1fs (%.1f commands/s)%n",
+                    playerCount, issued, seconds, elapsed, completed.get() / elapsed);
+            System.out.printf("Tick time: p50 %.3fms, p99 %.3fms, max %.3fms over %d ticks%n",
+                    percentile(ticks, 0.50) / 1e6, percentile(ticks, 0.99) / 1e6,
+                    (ticks.length == 0 ? 0 : ticks[ticks.length - 1]) / 1e6, ticks.length);
+            System.out.printf("Main-thread queue: peak %d tasks at tick start%n", peakQueue);
+            System.out.printf("Provider: %d disguises, %d name collisions, %d undisguises%n",
+                    simulated.disguises, simulated.collisions, simulated.undisguises);
+            plugin.metrics.report().forEach(System.out::println);
+
+            assertEquals(issued, completed.get(), "every command should complete");
+        }
+    }
+
+    // One /disguise invocation, weighted like event traffic.
+    private static Runnable command(DisguiseService service, SimulatedProvider provider, Player player,
+                                    Zipf names, Random random) {
+        final int roll = random.nextInt(100);
+        if (roll < 55) {
+            // /disguise username <name>: mostly popular names, a few typos that no provider knows
+            final String name = roll < 2 ? "Drea m" : pick(names, random);
+            return () -> {
+                provider.intend(player, name);
+                service.applyDisguise(player, name, name, true, player);
+            };
+        }
+        if (roll < 75) {
+            // /disguise skinname <name>: keep the own name
+            final String skin = pick(names, random);
+            return () -> {
+                provider.intend(player, null);
+                service.applyDisguise(player, player.getName(), skin, true, player);
+            };
+        }
+        if (roll < 90) {
+            final EntityType type = ENTITIES[random.nextInt(ENTITIES.length)];
+            return () -> {
+                provider.intend(player, null);
+                service.applyEntityDisguise(player, type, player);
+            };
+        }
+        return () -> service.resetDisguise(player, player);
+    }
+
+    private static String pick(Zipf names, Random random) {
+        final int rank = names.sample(random);
+        return rank < POPULAR.size() ? POPULAR.get(rank) : "Skin_" + rank;
+    }
+
+    private static Player player(String name) {
+        final Player player = mock(Player.class);
+        final UUID id = UUID.nameUUIDFromBytes(name.getBytes());
+        when(player.getName()).thenReturn(name);
+        when(player.getUniqueId()).thenReturn(id);
+        when(player.isOnline()).thenReturn(true);
+        return player;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        final int idx = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, idx))];
+    }
+
+    /**
+     * Disguise provider model: each (un)disguise costs some main-thread time, and a name already worn by
+     * k other players fails with FAIL_NAME_ALREADY_ONLINE for the first k attempts (name, name_2, ...).
+     * Only called on the simulated main thread.
+     */
+    private static final class SimulatedProvider {
+        final DisguiseProvider mock = mock(DisguiseProvider.class);
+        final Map<UUID, String> intended = new HashMap<>();
+        final Map<UUID, Integer> attempts = new HashMap<>();
+        final Map<String, Set<UUID>> holders = new HashMap<>();
+        final Map<UUID, String> wearing = new HashMap<>();
+        final Set<UUID> disguised = new HashSet<>();
+        int disguises;
+        int collisions;
+        int undisguises;
+
+        SimulatedProvider() {
+            when(mock.isDisguised(any(Player.class))).thenAnswer(inv -> disguised.contains(inv.<Player>getArgument(0).getUniqueId()));
+            when(mock.disguise(any(Player.class), any(Disguise.class))).thenAnswer(inv -> disguise(inv.getArgument(0)));
+            when(mock.undisguise(any(Player.class))).thenAnswer(inv -> undisguise(inv.getArgument(0)));
+        }
+
+        void intend(Player player, String name) {
+            if (name == null) intended.remove(player.getUniqueId());
+            else intended.put(player.getUniqueId(), name.toLowerCase());
+            attempts.remove(player.getUniqueId());
+        }
+
+        private DisguiseResponse disguise(Player player) {
+            busy();
+            final UUID id = player.getUniqueId();
+            final String name = intended.get(id);
+            if (name != null) {
+                final Set<UUID> others = holders.getOrDefault(name, Set.of());
+                final int taken = others.size() - (others.contains(id) ? 1 : 0);
+                final int attempt = attempts.merge(id, 1, Integer::sum);
+                if (attempt <= taken) {
+                    collisions++;
+                    return DisguiseResponse.FAIL_NAME_ALREADY_ONLINE;
+                }
+                holders.computeIfAbsent(name, n -> new HashSet<>()).add(id);
+                wearing.put(id, name);
+            }
+            disguised.add(id);
+            disguises++;
+            return DisguiseResponse.SUCCESS;
+        }
+
+        private UndisguiseResponse undisguise(Player player) {
+            busy();
+            final UUID id = player.getUniqueId();
+            if (!disguised.remove(id)) return UndisguiseResponse.FAIL_ALREADY_UNDISGUISED;
+            final String name = wearing.remove(id);
+            if (name != null) holders.getOrDefault(name, new HashSet<>()).remove(id);
+            undisguises++;
+            return UndisguiseResponse.SUCCESS;
+        }
+
+        private static void busy() {
+            final long until = System.nanoTime() + PROVIDER_COST_NANOS;
+            while (System.nanoTime() < until) Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Zipf-distributed ranks 0..n-1: rank 0 is the most requested name.
+     */
+    private static final class Zipf {
+        private final double[] cumulative;
+
+        Zipf(int n, double exponent) {
+            cumulative = new double[n];
+            double sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += 1 / Math.pow(i + 1, exponent);
+                cumulative[i] = sum;
+            }
+            for (int i = 0; i < n; i++) cumulative[i] /= sum;
+        }
+
+        int sample(Random random) {
+            final int idx = Arrays.binarySearch(cumulative, random.nextDouble());
+            return Math.min(cumulative.length - 1, idx >= 0 ? idx : -idx - 1);
+        }
+    }
+}
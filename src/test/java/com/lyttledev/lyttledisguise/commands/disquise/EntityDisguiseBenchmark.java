@@ -0,0 +1,90 @@
+package com.lyttledev.lyttledisguise.commands.disquise;
+
+import dev.iiahmed.disguise.Disguise;
+import org.bukkit.entity.EntityType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Compares the ways /disguise entity has turned an argument into a Disguise:
+ * <ul>
+ *     <li>build per apply: {@code EntityType.valueOf} with exception handling, then a new Disguise (the original path)</li>
+ *     <li>cached template: map lookup, then one shared Disguise per type</li>
+ *     <li>current: map lookup, then a new Disguise per apply</li>
+ * </ul>
+ * Inputs mix valid types in different casing with invalid ones, like players type them.
+ * <p>
+ * Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class EntityDisguiseBenchmark {
+
+    private static final String[] INPUTS = {
+            "zombie", "Chicken", "COW", "creeper", "sheep", "chicken", "notamob", "player", "Zombie", "villager"};
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 10;
+    private static final int OPS_PER_ROUND = 200_000;
+
+    // Keeps results reachable so the JIT cannot drop the measured work.
+    private static final Object[] SINK = new Object[64];
+
+    @Test
+    void entityDisguiseCreation() {
+        final Map<EntityType, Disguise> templates = new EnumMap<>(EntityType.class);
+
+        final Function<String, Disguise> buildPerApply = raw -> {
+            try {
+                final EntityType type = EntityType.valueOf(raw.toUpperCase(Locale.ROOT));
+                return DisguiseCommand.isValidEntityType(type) ? build(type) : null;
+            } catch (IllegalArgumentException ex) {
+                return null;
+            }
+        };
+        final Function<String, Disguise> cachedTemplate = raw -> {
+            final EntityType type = DisguiseCommand.parseEntityType(raw);
+            return type == null ? null : templates.computeIfAbsent(type, EntityDisguiseBenchmark::build);
+        };
+        final Function<String, Disguise> current = raw -> {
+            final EntityType type = DisguiseCommand.parseEntityType(raw);
+            return type == null ? null : build(type);
+        };
+
+        System.out.printf("Entity disguise creation, %d ops x %d rounds:%n", OPS_PER_ROUND, ROUNDS);
+        report("build per apply (valueOf)", buildPerApply);
+        report("cached template", cachedTemplate);
+        report("lookup + build per apply", current);
+    }
+
+    private static Disguise build(EntityType type) {
+        return Disguise.builder()
+                .setEntity(builder -> builder.setType(type))
+                .build();
+    }
+
+    private static void report(String name, Function<String, Disguise> path) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) round(path);
+
+        long best = Long.MAX_VALUE;
+        long total = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            final long nanos = round(path);
+            best = Math.min(best, nanos);
+            total += nanos;
+        }
+        System.out.printf("  %-28s avg %7.1f ns/op, best %7.1f ns/op%n", name,
+                (double) total / ROUNDS / OPS_PER_ROUND, (double) best / OPS_PER_ROUND);
+    }
+
+    private static long round(Function<String, Disguise> path) {
+        final long start = System.nanoTime();
+        for (int i = 0; i < OPS_PER_ROUND; i++) {
+            SINK[i & (SINK.length - 1)] = path.apply(INPUTS[i % INPUTS.length]);
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,212 @@
+package com.lyttledev.lyttledisguise.commands.disquise;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Local stand-in for the Ashcon, Mojang, PlayerDB and sessionserver APIs on a JDK {@link HttpServer}.
+ * Replays the recorded responses under {@code src/test/resources/skin-api/} and can inject latency,
+ * error statuses and 429s per provider. Unknown names answer like the real APIs do (404/204/400),
+ * or, with {@link #synthesizeUnknownPlayers(boolean)}, get the recorded Notch payloads under their own
+ * name and a derived UUID, so load tests can use any number of distinct players.
+ */
+final class FakeSkinApi implements AutoCloseable {
+
+    enum Provider {
+        ASHCON("ashcon", 404),
+        MOJANG("mojang", 204),
+        PLAYERDB("playerdb", 400),
+        SESSION("session", 204);
+
+        final String path;
+        final int missingStatus;
+
+        Provider(String path, int missingStatus) {
+            this.path = path;
+            this.missingStatus = missingStatus;
+        }
+    }
+
+    private static final String TEMPLATE_NAME = "Notch";
+    private static final String TEMPLATE_UUID = "069a79f4-44e9-4726-a5be-fca90e38aaf5";
+    private static final String TEMPLATE_RAW_UUID = "069a79f444e94726a5befca90e38aaf5";
+    private static final Pattern MINECRAFT_NAME = Pattern.compile("^[a-zA-Z0-9_]{3,16}$");
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<Provider, AtomicInteger> hits = new ConcurrentHashMap<>();
+    private final Map<Provider, Integer> latencyMs = new ConcurrentHashMap<>();
+    private final Map<Provider, Integer> forcedStatus = new ConcurrentHashMap<>();
+    private final AtomicInteger gzipped = new AtomicInteger();
+    // Raw UUID -> name, for synthesized players looked up on the sessionserver.
+    private final Map<String, String> synthesized = new ConcurrentHashMap<>();
+    private volatile boolean synthesize;
+
+    FakeSkinApi() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        for (Provider provider : Provider.values()) {
+            hits.put(provider, new AtomicInteger());
+            server.createContext("/" + provider.path + "/", exchange -> handle(provider, exchange));
+        }
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    String url(Provider provider) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/" + provider.path + "/";
+    }
+
+    /**
+     * config.yml overrides that point the resolver at this server.
+     */
+    Map<String, Object> config() {
+        return Map.of(
+                "skin_provider_ashcon_url", url(Provider.ASHCON),
+                "skin_provider_mojang_url", url(Provider.MOJANG),
+                "skin_provider_playerdb_url", url(Provider.PLAYERDB),
+                "skin_provider_sessionserver_url", url(Provider.SESSION),
+                "http_version", "HTTP_1_1");
+    }
+
+    void latency(Provider provider, int millis) {
+        latencyMs.put(provider, millis);
+    }
+
+    /**
+     * Answers every request to the provider with this status (e.g. 500 or 429); 0 restores normal answers.
+     */
+    void status(Provider provider, int status) {
+        if (status == 0) forcedStatus.remove(provider);
+        else forcedStatus.put(provider, status);
+    }
+
+    void synthesizeUnknownPlayers(boolean synthesize) {
+        this.synthesize = synthesize;
+    }
+
+    int hits(Provider provider) {
+        return hits.get(provider).get();
+    }
+
+    int gzippedResponses() {
+        return gzipped.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(Provider provider, HttpExchange exchange) throws IOException {
+        try (exchange) {
+            hits.get(provider).incrementAndGet();
+
+            final int latency = latencyMs.getOrDefault(provider, 0);
+            if (latency > 0) {
+                try {
+                    Thread.sleep(latency);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+
+            final Integer forced = forcedStatus.get(provider);
+            if (forced != null) {
+                if (forced == 429) exchange.getResponseHeaders().add("Retry-After", "1");
+                send(exchange, forced, "{\"error\":\"forced " + forced + "\"}");
+                return;
+            }
+
+            final String path = exchange.getRequestURI().getPath();
+            final String lookup = path.substring(path.lastIndexOf('/') + 1);
+            final String body = payload(provider, lookup);
+            if (body == null) {
+                send(exchange, provider.missingStatus, provider.missingStatus == 204 ? null : "{\"error\":\"not found\"}");
+            } else {
+                send(exchange, 200, body);
+            }
+        } catch (IOException ignored) {
+            // The client gave up (timeout); nothing to answer anymore.
+        }
+    }
+
+    private String payload(Provider provider, String lookup) throws IOException {
+        final String key = lookup.toLowerCase(Locale.ROOT);
+        final String recorded = recorded(provider, key);
+        if (recorded != null || !synthesize) return recorded;
+
+        if (provider == Provider.SESSION) {
+            final String name = synthesized.get(key);
+            return name == null ? null : personalize(recorded(provider, TEMPLATE_RAW_UUID), name);
+        }
+        if (!MINECRAFT_NAME.matcher(lookup).matches()) return null;
+        synthesized.put(rawUuid(lookup), lookup);
+        return personalize(recorded(provider, TEMPLATE_NAME.toLowerCase(Locale.ROOT)), lookup);
+    }
+
+    private static String recorded(Provider provider, String key) throws IOException {
+        try (InputStream in = FakeSkinApi.class.getResourceAsStream("/skin-api/" + provider.path + "/" + key + ".json")) {
+            return in == null ? null : new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+        }
+    }
+
+    // The signed texture value is left as recorded; only the identifiers around it change.
+    private static String personalize(String template, String name) {
+        final UUID uuid = uuidFor(name);
+        return template
+                .replace(TEMPLATE_UUID, uuid.toString())
+                .replace(TEMPLATE_RAW_UUID, rawUuid(name))
+                .replace("\"" + TEMPLATE_NAME + "\"", "\"" + name + "\"");
+    }
+
+    private static UUID uuidFor(String name) {
+        return UUID.nameUUIDFromBytes(("OfflinePlayer:" + name.toLowerCase(Locale.ROOT)).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String rawUuid(String name) {
+        return uuidFor(name).toString().replace("-", "");
+    }
+
+    private void send(HttpExchange exchange, int status, String body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        final String encoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (encoding != null && encoding.contains("gzip")) {
+            final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(bytes);
+            }
+            bytes = compressed.toByteArray();
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            gzipped.incrementAndGet();
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
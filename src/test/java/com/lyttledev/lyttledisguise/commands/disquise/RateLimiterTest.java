@@ -0,0 +1,141 @@
+package com.lyttledev.lyttledisguise.commands.disquise;
+
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RateLimiterTest {
+
+    private static RateLimiter limiter(Object... overrides) {
+        final Map<String, Object> config = new HashMap<>();
+        config.put("rate_limit_enabled", true);
+        config.put("rate_limit_global_burst", 0); // off unless a test turns it on
+        for (int i = 0; i < overrides.length; i += 2) {
+            config.put((String) overrides[i], overrides[i + 1]);
+        }
+        return new RateLimiter(TestPlugin.create(config));
+    }
+
+    private static Player player(String... permissions) {
+        final Player player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        for (String permission : permissions) {
+            when(player.hasPermission(permission)).thenReturn(true);
+        }
+        return player;
+    }
+
+    @Test
+    void burstPassesThenWaitIsReported() {
+        final RateLimiter limiter = limiter("rate_limit_tiers", List.of("default:3:1"));
+        final Player player = player();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire(player), "attempt " + (i + 1));
+        }
+        final long wait = limiter.tryAcquire(player);
+        assertTrue(wait > 900 && wait <= 1001, "one token per second, got " + wait + "ms");
+    }
+
+    @Test
+    void tokensRefillOverTime() throws InterruptedException {
+        final RateLimiter limiter = limiter("rate_limit_tiers", List.of("default:2:20"));
+        final Player player = player();
+
+        assertEquals(0, limiter.tryAcquire(player));
+        assertEquals(0, limiter.tryAcquire(player));
+        final long wait = limiter.tryAcquire(player);
+        assertTrue(wait > 0);
+
+        Thread.sleep(wait + 10);
+        assertEquals(0, limiter.tryAcquire(player));
+    }
+
+    @Test
+    void firstMatchingTierApplies() {
+        final RateLimiter limiter = limiter("rate_limit_tiers", List.of("vip:5:1", "default:1:1"));
+        final Player vip = player("lyttledisguise.ratelimit.vip");
+        final Player regular = player();
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire(vip), "vip attempt " + (i + 1));
+        }
+        assertTrue(limiter.tryAcquire(vip) > 0);
+
+        assertEquals(0, limiter.tryAcquire(regular));
+        assertTrue(limiter.tryAcquire(regular) > 0);
+    }
+
+    @Test
+    void playersAreLimitedSeparately() {
+        final RateLimiter limiter = limiter("rate_limit_tiers", List.of("default:1:1"));
+
+        assertEquals(0, limiter.tryAcquire(player()));
+        assertEquals(0, limiter.tryAcquire(player()));
+    }
+
+    @Test
+    void bypassPermissionIsNeverLimited() {
+        final RateLimiter limiter = limiter(
+                "rate_limit_tiers", List.of("default:1:1"),
+                "rate_limit_global_burst", 1,
+                "rate_limit_global_per_second", 1);
+        final Player staff = player(RateLimiter.BYPASS_PERMISSION);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, limiter.tryAcquire(staff));
+        }
+    }
+
+    @Test
+    void disabledLimiterAllowsEverything() {
+        final RateLimiter limiter = limiter("rate_limit_enabled", false, "rate_limit_tiers", List.of("default:1:1"));
+        final Player player = player();
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, limiter.tryAcquire(player));
+        }
+    }
+
+    @Test
+    void globalBucketLimitsAllPlayersTogether() {
+        final RateLimiter limiter = limiter(
+                "rate_limit_global_burst", 2,
+                "rate_limit_global_per_second", 1);
+
+        assertEquals(0, limiter.tryAcquire(player()));
+        assertEquals(0, limiter.tryAcquire(player()));
+        assertTrue(limiter.tryAcquire(player()) > 0);
+    }
+
+    @Test
+    void globalRejectionRefundsThePlayerToken() throws InterruptedException {
+        // The player may do 2 per burst (refilling slowly); the server 1 per 50ms.
+        final RateLimiter limiter = limiter(
+                "rate_limit_tiers", List.of("default:2:0.5"),
+                "rate_limit_global_burst", 1,
+                "rate_limit_global_per_second", 20);
+        final Player player = player();
+
+        assertEquals(0, limiter.tryAcquire(player));
+        final long globalWait = limiter.tryAcquire(player);
+        assertTrue(globalWait > 0 && globalWait <= 51, "rejected by the global bucket, got " + globalWait + "ms");
+
+        // Without the refund the rejected attempt would have used the player's second token.
+        Thread.sleep(globalWait + 10);
+        assertEquals(0, limiter.tryAcquire(player));
+
+        Thread.sleep(60);
+        final long playerWait = limiter.tryAcquire(player);
+        assertTrue(playerWait > 1000, "now the player's own bucket is empty, got " + playerWait + "ms");
+    }
+}
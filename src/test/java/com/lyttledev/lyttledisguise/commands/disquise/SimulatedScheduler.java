@@ -0,0 +1,141 @@
+package com.lyttledev.lyttledisguise.commands.disquise;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Stand-in for the Bukkit scheduler. Async tasks run on a thread pool; sync tasks queue up for a
+ * simulated main thread, which is whichever thread calls {@link #tick()}. Like Bukkit, work scheduled
+ * during a tick runs on the next one. The time spent in each tick is recorded.
+ */
+final class SimulatedScheduler {
+
+    private record Repeating(Runnable task, long period, AtomicBoolean cancelled, long[] nextTick) {}
+
+    private final BukkitScheduler bukkit = mock(BukkitScheduler.class);
+    // Returned for one-shot tasks; nothing in the plugin cancels those.
+    private final BukkitTask oneShot = task(new AtomicBoolean());
+    private final Queue<Runnable> main = new ConcurrentLinkedQueue<>();
+    private final List<Repeating> repeating = new CopyOnWriteArrayList<>();
+    private final List<Long> tickNanos = new ArrayList<>();
+    private final AtomicInteger tick = new AtomicInteger();
+    private volatile ExecutorService async = Executors.newCachedThreadPool();
+    private volatile Thread mainThread;
+
+    SimulatedScheduler() {
+        when(bukkit.runTaskAsynchronously(any(Plugin.class), any(Runnable.class))).thenAnswer(inv -> {
+            async.execute(inv.<Runnable>getArgument(1));
+            return oneShot;
+        });
+        when(bukkit.runTask(any(Plugin.class), any(Runnable.class))).thenAnswer(inv -> {
+            main.add(inv.<Runnable>getArgument(1));
+            return oneShot;
+        });
+        when(bukkit.runTaskTimer(any(Plugin.class), any(Runnable.class), anyLong(), anyLong())).thenAnswer(inv -> {
+            final AtomicBoolean cancelled = new AtomicBoolean();
+            final long delay = inv.<Long>getArgument(2);
+            final long period = Math.max(1, inv.<Long>getArgument(3));
+            repeating.add(new Repeating(inv.<Runnable>getArgument(1), period, cancelled,
+                    new long[]{tick.get() + Math.max(1, delay)}));
+            return task(cancelled);
+        });
+    }
+
+    BukkitScheduler bukkit() {
+        return bukkit;
+    }
+
+    boolean isMainThread() {
+        return Thread.currentThread() == mainThread;
+    }
+
+    int currentTick() {
+        return tick.get();
+    }
+
+    /**
+     * Runs one server tick on the calling thread: due repeating tasks, then everything queued before it started.
+     */
+    void tick() {
+        mainThread = Thread.currentThread();
+        final long start = System.nanoTime();
+        final int now = tick.incrementAndGet();
+
+        for (Repeating task : repeating) {
+            if (task.cancelled().get()) {
+                repeating.remove(task);
+            } else if (task.nextTick()[0] <= now) {
+                task.nextTick()[0] = now + task.period();
+                task.task().run();
+            }
+        }
+
+        for (int queued = main.size(); queued > 0; queued--) {
+            final Runnable task = main.poll();
+            if (task == null) break;
+            task.run();
+        }
+
+        synchronized (tickNanos) {
+            tickNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    int queuedMainTasks() {
+        return main.size();
+    }
+
+    List<Long> tickNanos() {
+        synchronized (tickNanos) {
+            return List.copyOf(tickNanos);
+        }
+    }
+
+    /**
+     * Drops queued and repeating work and starts a fresh async pool, so tests do not leak into each other.
+     */
+    void reset() {
+        async.shutdownNow();
+        try {
+            async.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        async = Executors.newCachedThreadPool();
+        main.clear();
+        repeating.clear();
+        synchronized (tickNanos) {
+            tickNanos.clear();
+        }
+        tick.set(0);
+        mainThread = null;
+    }
+
+    private static BukkitTask task(AtomicBoolean cancelled) {
+        final BukkitTask task = mock(BukkitTask.class);
+        when(task.isCancelled()).thenAnswer(inv -> cancelled.get());
+        doAnswer(inv -> {
+            cancelled.set(true);
+            return null;
+        }).when(task).cancel();
+        return task;
+    }
+}
@@ -0,0 +1,250 @@
+package com.lyttledev.lyttledisguise.commands.disquise;
+
+import com.lyttledev.lyttledisguise.commands.disquise.FakeSkinApi.Provider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SkinResolverTest {
+
+    private static final UUID NOTCH = UUID.fromString("069a79f4-44e9-4726-a5be-fca90e38aaf5");
+
+    private FakeSkinApi api;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        TestBukkit.install();
+        api = new FakeSkinApi();
+    }
+
+    @AfterEach
+    void tearDown() {
+        api.close();
+    }
+
+    private SkinResolver resolver(Object... overrides) {
+        final Map<String, Object> config = new HashMap<>(api.config());
+        for (int i = 0; i < overrides.length; i += 2) {
+            config.put((String) overrides[i], overrides[i + 1]);
+        }
+        return new SkinResolver(TestPlugin.create(config));
+    }
+
+    // Every lookup goes to the providers instead of the skin cache.
+    private SkinResolver uncachedResolver(Object... overrides) {
+        final Object[] all = new Object[overrides.length + 4];
+        all[0] = "skin_cache_ttl_seconds";
+        all[1] = 0;
+        all[2] = "skin_cache_stale_seconds";
+        all[3] = 0;
+        System.arraycopy(overrides, 0, all, 4, overrides.length);
+        return resolver(all);
+    }
+
+    @Test
+    void ashconIsAskedFirst() throws Exception {
+        final SkinResolver.SkinData data = resolver().resolve("Notch");
+
+        assertNotNull(data.texture);
+        assertEquals(NOTCH, data.uuid);
+        assertEquals(1, api.hits(Provider.ASHCON));
+        assertEquals(0, api.hits(Provider.MOJANG));
+        assertEquals(0, api.hits(Provider.SESSION));
+        assertTrue(api.gzippedResponses() > 0, "gzip is requested and decoded by default");
+    }
+
+    @Test
+    void fallsBackToMojangAndSessionServer() throws Exception {
+        api.status(Provider.ASHCON, 500);
+
+        final SkinResolver.SkinData data = resolver().resolve("Notch");
+
+        assertNotNull(data.texture);
+        assertEquals(NOTCH, data.uuid);
+        assertEquals(1, api.hits(Provider.MOJANG));
+        assertEquals(1, api.hits(Provider.SESSION));
+        assertEquals(0, api.hits(Provider.PLAYERDB));
+    }
+
+    @Test
+    void fallsBackToPlayerDbWhenMojangFails() throws Exception {
+        api.status(Provider.ASHCON, 500);
+        api.status(Provider.MOJANG, 503);
+
+        final SkinResolver.SkinData data = resolver().resolve("jeb_");
+
+        assertNotNull(data.texture);
+        assertEquals(UUID.fromString("853c80ef-3c37-49fd-aa49-938b674adae6"), data.uuid);
+        assertEquals(1, api.hits(Provider.PLAYERDB));
+        assertEquals(1, api.hits(Provider.SESSION));
+    }
+
+    @Test
+    void uuidGoesStraightToSessionServer() throws Exception {
+        final SkinResolver.SkinData data = resolver().resolve(NOTCH.toString());
+
+        assertNotNull(data.texture);
+        assertEquals(1, api.hits(Provider.SESSION));
+        assertEquals(0, api.hits(Provider.ASHCON));
+        assertEquals(0, api.hits(Provider.MOJANG));
+    }
+
+    @Test
+    void invalidNamesNeverReachTheProviders() throws Exception {
+        assertNull(resolver().resolve("not a name!"));
+
+        for (Provider provider : Provider.values()) {
+            assertEquals(0, api.hits(provider), provider.name());
+        }
+    }
+
+    @Test
+    void slowProviderTimesOutAndFallsThrough() throws Exception {
+        api.latency(Provider.ASHCON, 3000);
+
+        final long start = System.nanoTime();
+        final SkinResolver.SkinData data = resolver("http_timeout_ashcon_ms", 200).resolve("Notch");
+        final long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertNotNull(data.texture);
+        assertEquals(1, api.hits(Provider.MOJANG));
+        assertTrue(elapsedMs < 2000, "took " + elapsedMs + "ms, the Ashcon timeout should have cut it short");
+    }
+
+    @Test
+    void deadlineEndsTheWholeLookup() {
+        for (Provider provider : Provider.values()) api.latency(provider, 3000);
+        final SkinResolver resolver = resolver("skin_resolve_deadline_ms", 500);
+
+        final long start = System.nanoTime();
+        assertThrows(TimeoutException.class, () -> resolver.resolve("Notch"));
+        final long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMs < 2000, "took " + elapsedMs + "ms with a 500ms deadline");
+    }
+
+    @Test
+    void notFoundAnswersAreRemembered() throws Exception {
+        final SkinResolver resolver = resolver();
+
+        assertNull(resolver.resolve("Ghost_Player"));
+        assertNull(resolver.resolve("Ghost_Player"));
+
+        // 404 from Ashcon, 204 from Mojang, 400 from PlayerDB: each asked once.
+        assertEquals(1, api.hits(Provider.ASHCON));
+        assertEquals(1, api.hits(Provider.MOJANG));
+        assertEquals(1, api.hits(Provider.PLAYERDB));
+    }
+
+    @Test
+    void notFoundAnswersAreNotRememberedWhenDisabled() throws Exception {
+        final SkinResolver resolver = resolver("skin_negative_cache_seconds", 0);
+
+        assertNull(resolver.resolve("Ghost_Player"));
+        assertNull(resolver.resolve("Ghost_Player"));
+
+        assertEquals(2, api.hits(Provider.ASHCON));
+        assertEquals(2, api.hits(Provider.MOJANG));
+    }
+
+    @Test
+    void rateLimitedAnswersPassThroughWithoutBeingRemembered() throws Exception {
+        api.status(Provider.ASHCON, 429);
+        final SkinResolver resolver = uncachedResolver();
+
+        assertNotNull(resolver.resolve("Notch").texture);
+        assertNotNull(resolver.resolve("Notch").texture);
+
+        // A 429 is not "not found": Ashcon is asked again, and Mojang answers meanwhile.
+        assertEquals(2, api.hits(Provider.ASHCON));
+        assertEquals(2, api.hits(Provider.MOJANG));
+    }
+
+    @Test
+    void resolvedSkinsAreServedFromTheCache() throws Exception {
+        final SkinResolver resolver = resolver();
+
+        resolver.resolve("Notch");
+        resolver.resolve("notch");
+
+        assertEquals(1, api.hits(Provider.ASHCON));
+    }
+
+    @Test
+    void staleEntriesAreServedWhileOneRefreshRuns() throws Exception {
+        // Every entry is expired right away but stays usable for a minute.
+        final SkinResolver resolver = resolver("skin_cache_ttl_seconds", 0, "skin_cache_stale_seconds", 60);
+        resolver.resolve("Notch");
+        assertEquals(1, api.hits(Provider.ASHCON));
+        Thread.sleep(5);
+
+        // A slow provider makes a synchronous lookup obvious and keeps the refresh in flight.
+        api.latency(Provider.ASHCON, 500);
+        final long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            assertNotNull(resolver.resolve("Notch").texture);
+        }
+        final long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMs < 250, "took " + elapsedMs + "ms, the stale entry should be served without waiting");
+
+        // All five lookups share the one background refresh.
+        final long until = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (api.hits(Provider.ASHCON) < 2 && System.nanoTime() < until) Thread.sleep(10);
+        Thread.sleep(700);
+        assertEquals(2, api.hits(Provider.ASHCON));
+        assertEquals(0, api.hits(Provider.MOJANG));
+    }
+
+    @Test
+    void entriesPastTheStaleWindowAreResolvedAgain() throws Exception {
+        final SkinResolver resolver = resolver("skin_cache_ttl_seconds", 0, "skin_cache_stale_seconds", 1);
+        resolver.resolve("Notch");
+        Thread.sleep(1100);
+
+        assertNotNull(resolver.resolve("Notch").texture);
+
+        // Looked up while the caller waited, not served from the cache.
+        assertEquals(2, api.hits(Provider.ASHCON));
+    }
+
+    @Test
+    void concurrentLookupsAllResolve() throws Exception {
+        api.synthesizeUnknownPlayers(true);
+        for (Provider provider : Provider.values()) api.latency(provider, 20);
+        final SkinResolver resolver = resolver();
+        final ExecutorService pool = Executors.newFixedThreadPool(16);
+
+        try {
+            final long start = System.nanoTime();
+            final List<Future<SkinResolver.SkinData>> lookups = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                final String name = "Player_" + i;
+                lookups.add(pool.submit(() -> resolver.resolve(name)));
+            }
+            for (Future<SkinResolver.SkinData> lookup : lookups) {
+                assertNotNull(lookup.get(10, TimeUnit.SECONDS).texture);
+            }
+            final double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("Resolved %d skins in %.2fs (%.0f/s)%n", lookups.size(), seconds, lookups.size() / seconds);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.lyttledev.lyttledisguise.commands.disquise;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.plugin.PluginManager;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Minimal Bukkit runtime for tests: a mocked {@link Server} with no players, backed by a {@link SimulatedScheduler}.
+ * Bukkit holds a single server per JVM, so all tests share it and get a reset scheduler.
+ */
+final class TestBukkit {
+
+    private static final SimulatedScheduler SCHEDULER = new SimulatedScheduler();
+    private static boolean installed;
+
+    private TestBukkit() {}
+
+    static synchronized SimulatedScheduler install() {
+        if (!installed) {
+            final Server server = mock(Server.class);
+            when(server.getLogger()).thenReturn(Logger.getLogger("TestServer"));
+            when(server.getScheduler()).thenReturn(SCHEDULER.bukkit());
+            when(server.getPluginManager()).thenReturn(mock(PluginManager.class));
+            when(server.isPrimaryThread()).thenAnswer(inv -> SCHEDULER.isMainThread());
+            when(server.getCurrentTick()).thenAnswer(inv -> SCHEDULER.currentTick());
+            when(server.getViewDistance()).thenReturn(10);
+            doReturn(List.of()).when(server).getOnlinePlayers();
+            setServer(server);
+            installed = true;
+        }
+        SCHEDULER.reset();
+        return SCHEDULER;
+    }
+
+    // Bukkit.setServer logs build information that only a real server provides, so set the field directly.
+    private static void setServer(Server server) {
+        try {
+            final Field field = Bukkit.class.getDeclaredField("server");
+            field.setAccessible(true);
+            field.set(null, server);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Cannot install the test server", ex);
+        }
+    }
+}
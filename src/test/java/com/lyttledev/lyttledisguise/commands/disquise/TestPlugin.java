@@ -0,0 +1,45 @@
+package com.lyttledev.lyttledisguise.commands.disquise;
+
+import com.lyttledev.lyttledisguise.LyttleDisguise;
+import com.lyttledev.lyttledisguise.types.Configs;
+import com.lyttledev.lyttledisguise.types.Settings;
+
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Mocked plugin instance whose {@link Settings} come from a map of config.yml overrides
+ * (everything else uses the defaults built into {@link Settings}).
+ */
+public final class TestPlugin {
+
+    private TestPlugin() {}
+
+    public static LyttleDisguise create(Map<String, ?> config) {
+        final LyttleDisguise plugin = mock(LyttleDisguise.class);
+        when(plugin.getLogger()).thenReturn(Logger.getLogger("LyttleDisguise"));
+        when(plugin.getName()).thenReturn("LyttleDisguise");
+        plugin.settings = settings(config);
+        return plugin;
+    }
+
+    public static Settings settings(Map<String, ?> config) {
+        final Configs configs = mock(Configs.class, invocation -> {
+            final Object[] args = invocation.getArguments();
+            final Object value = args.length > 0 ? config.get((String) args[0]) : null;
+            return switch (invocation.getMethod().getName()) {
+                case "getString" -> value != null ? value.toString() : args[1];
+                case "getInt" -> value != null ? ((Number) value).intValue() : args[1];
+                case "getDouble" -> value != null ? ((Number) value).doubleValue() : args[1];
+                case "getBoolean" -> value != null ? value : args[1];
+                case "getStringList" -> value != null ? value : List.of();
+                default -> null;
+            };
+        });
+        return Settings.from(configs);
+    }
+}